@@ -0,0 +1,34 @@
+package dev.scrumHub.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SprintSchemaInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureSingleActiveSprintIndex() {
+        try {
+            int demoted = jdbcTemplate.update(
+                    "UPDATE sprints SET status = 'PLANNED' WHERE status = 'ACTIVE' AND id NOT IN " +
+                            "(SELECT MAX(id) FROM sprints WHERE status = 'ACTIVE' GROUP BY project_id)");
+            if (demoted > 0) {
+                System.err.println("Warning: Demoted " + demoted + " duplicate active sprint(s) before creating unique index");
+            }
+            jdbcTemplate.execute(
+                    "CREATE UNIQUE INDEX IF NOT EXISTS uk_sprints_one_active_per_project " +
+                            "ON sprints (project_id) WHERE status = 'ACTIVE'");
+        } catch (DataAccessException e) {
+            System.err.println("Warning: Could not create active sprint unique index: " + e.getMessage());
+        }
+    }
+}
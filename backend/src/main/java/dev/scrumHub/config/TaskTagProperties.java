@@ -0,0 +1,34 @@
+package dev.scrumHub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.task-tags")
+public class TaskTagProperties {
+
+    private Map<String, List<String>> keywords = defaultKeywords();
+
+    private boolean reclassifyOnStartup = false;
+
+    private int backfillBatchSize = 500;
+
+    private static Map<String, List<String>> defaultKeywords() {
+        Map<String, List<String>> keywords = new LinkedHashMap<>();
+        keywords.put("Frontend", List.of("frontend", "ui", "interface"));
+        keywords.put("Backend", List.of("backend", "api", "server"));
+        keywords.put("Design", List.of("design", "ux"));
+        keywords.put("Security", List.of("security", "auth"));
+        keywords.put("Performance", List.of("performance", "optimization"));
+        keywords.put("Payment", List.of("payment", "billing"));
+        keywords.put("Documentation", List.of("documentation", "docs"));
+        keywords.put("DevOps", List.of("devops", "deployment"));
+        return keywords;
+    }
+}
@@ -1,11 +1,17 @@
 package dev.scrumHub.controller;
 
+import dev.scrumHub.dto.BoardChangesDto;
 import dev.scrumHub.dto.TaskResponseDto;
+import dev.scrumHub.service.BoardGroupingEngine.Dimension;
+import dev.scrumHub.service.BoardEventHub;
 import dev.scrumHub.service.BoardService;
+import dev.scrumHub.service.BoardSyncService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -17,32 +23,52 @@ import java.util.Map;
 public class BoardController {
 
     private final BoardService boardService;
+    private final BoardSyncService boardSyncService;
+    private final BoardEventHub boardEventHub;
 
     @GetMapping("/developer")
-    public ResponseEntity<Map<String, List<TaskResponseDto>>> getDeveloperBoard(
+    public ResponseEntity<?> getDeveloperBoard(
             @RequestParam(required = false) Long projectId,
             @RequestParam(required = false) Long sprintId,
-            @RequestParam(required = false) Long developerId) {
+            @RequestParam(required = false) Long developerId,
+            @RequestParam(required = false) String groupBy) {
+
+        if (groupBy != null) {
+            List<Dimension> dimensions = Dimension.parse(groupBy);
+            return ResponseEntity.ok(boardService.getDeveloperBoardGrouping(projectId, sprintId, developerId, dimensions));
+        }
         
         Map<String, List<TaskResponseDto>> boardData = boardService.getDeveloperBoard(projectId, sprintId, developerId);
         return ResponseEntity.ok(boardData);
     }
 
     @GetMapping("/tester")
-    public ResponseEntity<Map<String, List<TaskResponseDto>>> getTesterBoard(
+    public ResponseEntity<?> getTesterBoard(
             @RequestParam(required = false) Long projectId,
             @RequestParam(required = false) Long sprintId,
-            @RequestParam(required = false) Long testerId) {
+            @RequestParam(required = false) Long testerId,
+            @RequestParam(required = false) String groupBy) {
+
+        if (groupBy != null) {
+            List<Dimension> dimensions = Dimension.parse(groupBy);
+            return ResponseEntity.ok(boardService.getBoardGrouping(projectId, sprintId, dimensions));
+        }
 
         Map<String, List<TaskResponseDto>> boardData = boardService.getTesterBoard(projectId, sprintId, testerId);
         return ResponseEntity.ok(boardData);
     }
 
     @GetMapping("/tester-enhanced")
-    public ResponseEntity<Map<String, Object>> getTesterBoardWithStats(
+    public ResponseEntity<?> getTesterBoardWithStats(
             @RequestParam(required = false) Long projectId,
             @RequestParam(required = false) Long sprintId,
-            @RequestParam(required = false) Long testerId) {
+            @RequestParam(required = false) Long testerId,
+            @RequestParam(required = false) String groupBy) {
+
+        if (groupBy != null) {
+            List<Dimension> dimensions = Dimension.parse(groupBy);
+            return ResponseEntity.ok(boardService.getBoardGrouping(projectId, sprintId, dimensions));
+        }
 
         Map<String, Object> boardData = boardService.getTesterBoardWithStats(projectId, sprintId, testerId);
         return ResponseEntity.ok(boardData);
@@ -50,9 +76,15 @@ public class BoardController {
 
     @GetMapping("/scrum-master")
     @PreAuthorize("hasRole('SCRUM_MASTER')")
-    public ResponseEntity<Map<String, Object>> getScrumMasterBoard(
+    public ResponseEntity<?> getScrumMasterBoard(
             @RequestParam(required = false) Long projectId,
-            @RequestParam(required = false) Long sprintId) {
+            @RequestParam(required = false) Long sprintId,
+            @RequestParam(required = false) String groupBy) {
+
+        if (groupBy != null) {
+            List<Dimension> dimensions = Dimension.parse(groupBy);
+            return ResponseEntity.ok(boardService.getBoardGrouping(projectId, sprintId, dimensions));
+        }
         
         Map<String, Object> boardData = boardService.getScrumMasterBoard(projectId, sprintId);
         return ResponseEntity.ok(boardData);
@@ -69,4 +101,17 @@ public class BoardController {
         Map<String, List<TaskResponseDto>> tasksByAssignee = boardService.getTasksByAssigneeForProject(projectId);
         return ResponseEntity.ok(tasksByAssignee);
     }
+
+    @GetMapping("/changes")
+    public ResponseEntity<BoardChangesDto> getBoardChanges(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long sprintId,
+            @RequestParam(required = false) String since) {
+        return ResponseEntity.ok(boardSyncService.getChanges(projectId, sprintId, since));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBoard(@RequestParam Long projectId) {
+        return boardEventHub.subscribe(projectId);
+    }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package dev.scrumHub.controller;
 
+import dev.scrumHub.dto.TaskFilterDto;
 import dev.scrumHub.dto.TaskResponseDto;
 import dev.scrumHub.service.TaskService;
 import dev.scrumHub.service.ProjectService;
 import dev.scrumHub.service.UserService;
 import dev.scrumHub.service.TaskCommentService;
+import dev.scrumHub.service.TaskStatsService;
+import dev.scrumHub.model.Task.TaskStatus;
 import dev.scrumHub.model.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -26,52 +29,55 @@ public class DeveloperController {
     private final ProjectService projectService;
     private final UserService userService;
     private final TaskCommentService commentService;
+    private final TaskStatsService taskStatsService;
 
     @GetMapping("/dashboard/stats")
     public ResponseEntity<Map<String, Object>> getDashboardStats(@AuthenticationPrincipal UserDetails userDetails) {
         User user = userService.findByEmail(userDetails.getUsername())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        List<TaskResponseDto> userTasks = taskService.getTasksByAssigneeId(user.getId());
+        Map<TaskStatus, Long> counts = taskStatsService.countByAssignee(user.getId());
 
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalTasks", userTasks.size());
-        stats.put("completed", userTasks.stream().filter(t -> "DONE".equals(t.getStatus())).count());
-        stats.put("inProgress", userTasks.stream().filter(t -> "IN_PROGRESS".equals(t.getStatus())).count());
-        stats.put("blocked", userTasks.stream().filter(t -> "BUG_FOUND".equals(t.getStatus())).count());
-        stats.put("toDo", userTasks.stream().filter(t -> "TO_DO".equals(t.getStatus())).count());
-        stats.put("readyForTesting", userTasks.stream().filter(t -> "READY_FOR_TESTING".equals(t.getStatus())).count());
+        stats.put("totalTasks", (int) TaskStatsService.total(counts));
+        stats.put("completed", counts.get(TaskStatus.DONE));
+        stats.put("inProgress", counts.get(TaskStatus.IN_PROGRESS));
+        stats.put("blocked", counts.get(TaskStatus.BUG_FOUND));
+        stats.put("toDo", counts.get(TaskStatus.TO_DO));
+        stats.put("readyForTesting", counts.get(TaskStatus.READY_FOR_TESTING));
 
         return ResponseEntity.ok(stats);
     }
 
     @GetMapping("/tasks")
-    public ResponseEntity<List<TaskResponseDto>> getMyTasks(
+    public ResponseEntity<?> getMyTasks(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) Long projectId,
-            @RequestParam(required = false) Long sprintId) {
+            @RequestParam(required = false) Long sprintId,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
 
         User user = userService.findByEmail(userDetails.getUsername())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        List<TaskResponseDto> tasks;
-
-        if (sprintId != null) {
-            tasks = taskService.getTasksBySprintIdAndAssigneeId(sprintId, user.getId());
-        } else if (projectId != null) {
-            tasks = taskService.getTasksByProjectIdAndAssigneeId(projectId, user.getId());
-        } else {
-            tasks = taskService.getTasksByAssigneeId(user.getId());
-        }
-
-        if (status != null && !status.trim().isEmpty()) {
-            tasks = tasks.stream()
-                    .filter(task -> status.equalsIgnoreCase(task.getStatus()))
-                    .toList();
+        TaskFilterDto filter = TaskFilterDto.builder()
+                .projectId(projectId)
+                .sprintId(sprintId)
+                .assigneeId(user.getId())
+                .status(status)
+                .type(type)
+                .priority(priority)
+                .cursor(cursor)
+                .size(size)
+                .build();
+
+        if (filter.isPaged()) {
+            return ResponseEntity.ok(taskService.getTaskPage(filter));
         }
-
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok(taskService.findTasks(filter));
     }
 
     @GetMapping("/tasks/current-sprint")
@@ -116,7 +122,7 @@ public class DeveloperController {
             }
 
             TaskResponseDto updatedTask = taskService.updateTaskStatus(taskId,
-                    dev.scrumHub.model.Task.TaskStatus.valueOf(statusStr.toUpperCase()));
+                    dev.scrumHub.model.Task.TaskStatus.valueOf(statusStr.toUpperCase()), user.getId());
 
             if (!oldStatus.equals(updatedTask.getStatus())) {
                 commentService.createStatusChangeComment(taskId, oldStatus, updatedTask.getStatus(), user);
@@ -1,7 +1,13 @@
 package dev.scrumHub.controller;
 
+import dev.scrumHub.dto.BulkBacklogRequestDto;
+import dev.scrumHub.dto.BulkBacklogResponseDto;
+import dev.scrumHub.dto.EpicSummaryDto;
+import dev.scrumHub.dto.ProductOwnerDashboardDto;
+import dev.scrumHub.dto.ReleaseSummaryDto;
 import dev.scrumHub.model.*;
 import dev.scrumHub.service.ProductBacklogService;
+import dev.scrumHub.service.ProductOwnerDashboardService;
 import dev.scrumHub.service.EpicService;
 import dev.scrumHub.service.ReleaseService;
 import lombok.RequiredArgsConstructor;
@@ -22,8 +28,14 @@ public class ProductOwnerController {
     private final ProductBacklogService productBacklogService;
     private final EpicService epicService;
     private final ReleaseService releaseService;
+    private final ProductOwnerDashboardService dashboardService;
 
 
+    @GetMapping("/projects/{projectId}/dashboard")
+    public ResponseEntity<ProductOwnerDashboardDto> getDashboard(@PathVariable Long projectId) {
+        return ResponseEntity.ok(dashboardService.getDashboard(projectId));
+    }
+
     @GetMapping("/projects/{projectId}/backlog")
     public ResponseEntity<List<ProductBacklogItem>> getProductBacklog(@PathVariable Long projectId) {
         List<ProductBacklogItem> backlog = productBacklogService.getProductBacklog(projectId);
@@ -79,6 +91,14 @@ public class ProductOwnerController {
         return ResponseEntity.ok().build();
     }
 
+    @PutMapping("/projects/{projectId}/backlog/move")
+    public ResponseEntity<Void> moveBacklogItem(
+            @PathVariable Long projectId,
+            @RequestBody MoveBacklogItemRequest request) {
+        productBacklogService.moveBacklogItem(projectId, request.getItemId(), request.getBeforeId(), request.getAfterId());
+        return ResponseEntity.ok().build();
+    }
+
     @PutMapping("/backlog/{itemId}/move-to-sprint")
     public ResponseEntity<Task> moveItemToSprint(
             @PathVariable Long itemId,
@@ -87,6 +107,11 @@ public class ProductOwnerController {
         return ResponseEntity.ok(task);
     }
 
+    @PostMapping("/backlog/bulk")
+    public ResponseEntity<BulkBacklogResponseDto> applyBulkOperations(@RequestBody BulkBacklogRequestDto request) {
+        return ResponseEntity.ok(productBacklogService.applyBulkOperations(request.getOperations()));
+    }
+
     @PutMapping("/backlog/{itemId}/mark-ready")
     public ResponseEntity<ProductBacklogItem> markAsReady(@PathVariable Long itemId) {
         ProductBacklogItem item = productBacklogService.markAsReady(itemId);
@@ -123,14 +148,14 @@ public class ProductOwnerController {
 
 
     @GetMapping("/projects/{projectId}/epics")
-    public ResponseEntity<List<Epic>> getEpicsByProject(@PathVariable Long projectId) {
-        List<Epic> epics = epicService.getEpicsByProject(projectId);
+    public ResponseEntity<List<EpicSummaryDto>> getEpicsByProject(@PathVariable Long projectId) {
+        List<EpicSummaryDto> epics = epicService.getEpicsByProject(projectId);
         return ResponseEntity.ok(epics);
     }
 
     @GetMapping("/projects/{projectId}/epics/active")
-    public ResponseEntity<List<Epic>> getActiveEpics(@PathVariable Long projectId) {
-        List<Epic> epics = epicService.getActiveEpics(projectId);
+    public ResponseEntity<List<EpicSummaryDto>> getActiveEpics(@PathVariable Long projectId) {
+        List<EpicSummaryDto> epics = epicService.getActiveEpics(projectId);
         return ResponseEntity.ok(epics);
     }
 
@@ -170,10 +195,10 @@ public class ProductOwnerController {
     }
 
     @GetMapping("/projects/{projectId}/epics/status/{status}")
-    public ResponseEntity<List<Epic>> getEpicsByStatus(
+    public ResponseEntity<List<EpicSummaryDto>> getEpicsByStatus(
             @PathVariable Long projectId,
             @PathVariable Epic.EpicStatus status) {
-        List<Epic> epics = epicService.getEpicsByStatus(projectId, status);
+        List<EpicSummaryDto> epics = epicService.getEpicsByStatus(projectId, status);
         return ResponseEntity.ok(epics);
     }
 
@@ -191,10 +216,10 @@ public class ProductOwnerController {
     }
 
     @GetMapping("/projects/{projectId}/epics/search")
-    public ResponseEntity<List<Epic>> searchEpics(
+    public ResponseEntity<List<EpicSummaryDto>> searchEpics(
             @PathVariable Long projectId,
             @RequestParam String searchTerm) {
-        List<Epic> epics = epicService.searchEpics(projectId, searchTerm);
+        List<EpicSummaryDto> epics = epicService.searchEpics(projectId, searchTerm);
         return ResponseEntity.ok(epics);
     }
 
@@ -212,29 +237,29 @@ public class ProductOwnerController {
 
 
     @GetMapping("/projects/{projectId}/releases")
-    public ResponseEntity<List<Release>> getReleasesByProject(@PathVariable Long projectId) {
-        List<Release> releases = releaseService.getReleasesByProject(projectId);
+    public ResponseEntity<List<ReleaseSummaryDto>> getReleasesByProject(@PathVariable Long projectId) {
+        List<ReleaseSummaryDto> releases = releaseService.getReleasesByProject(projectId);
         return ResponseEntity.ok(releases);
     }
 
     @GetMapping("/projects/{projectId}/releases/active")
-    public ResponseEntity<List<Release>> getActiveReleases(@PathVariable Long projectId) {
-        List<Release> releases = releaseService.getActiveReleases(projectId);
+    public ResponseEntity<List<ReleaseSummaryDto>> getActiveReleases(@PathVariable Long projectId) {
+        List<ReleaseSummaryDto> releases = releaseService.getActiveReleases(projectId);
         return ResponseEntity.ok(releases);
     }
 
     @GetMapping("/projects/{projectId}/releases/current")
-    public ResponseEntity<Release> getCurrentRelease(@PathVariable Long projectId) {
+    public ResponseEntity<ReleaseSummaryDto> getCurrentRelease(@PathVariable Long projectId) {
         return releaseService.getCurrentRelease(projectId)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PostMapping("/projects/{projectId}/releases")
-    public ResponseEntity<Release> createRelease(
+    public ResponseEntity<ReleaseSummaryDto> createRelease(
             @PathVariable Long projectId,
             @RequestBody CreateReleaseRequest request) {
-        Release release = releaseService.createRelease(
+        ReleaseSummaryDto release = releaseService.createRelease(
                 projectId, request.getName(), request.getDescription(),
                 request.getVersionNumber(), request.getPriority(),
                 request.getPlannedStartDate(), request.getPlannedReleaseDate(),
@@ -243,10 +268,10 @@ public class ProductOwnerController {
     }
 
     @PutMapping("/releases/{releaseId}")
-    public ResponseEntity<Release> updateRelease(
+    public ResponseEntity<ReleaseSummaryDto> updateRelease(
             @PathVariable Long releaseId,
             @RequestBody UpdateReleaseRequest request) {
-        Release release = releaseService.updateRelease(
+        ReleaseSummaryDto release = releaseService.updateRelease(
                 releaseId, request.getName(), request.getDescription(),
                 request.getVersionNumber(), request.getStatus(),
                 request.getPriority(), request.getPlannedStartDate(),
@@ -256,20 +281,32 @@ public class ProductOwnerController {
     }
 
     @PutMapping("/releases/{releaseId}/start")
-    public ResponseEntity<Release> startRelease(@PathVariable Long releaseId) {
-        Release release = releaseService.startRelease(releaseId);
+    public ResponseEntity<ReleaseSummaryDto> startRelease(@PathVariable Long releaseId) {
+        ReleaseSummaryDto release = releaseService.startRelease(releaseId);
         return ResponseEntity.ok(release);
     }
 
     @PutMapping("/releases/{releaseId}/testing")
-    public ResponseEntity<Release> moveToTesting(@PathVariable Long releaseId) {
-        Release release = releaseService.moveToTesting(releaseId);
+    public ResponseEntity<ReleaseSummaryDto> moveToTesting(@PathVariable Long releaseId) {
+        ReleaseSummaryDto release = releaseService.moveToTesting(releaseId);
         return ResponseEntity.ok(release);
     }
 
     @PutMapping("/releases/{releaseId}/deploy")
-    public ResponseEntity<Release> deployRelease(@PathVariable Long releaseId) {
-        Release release = releaseService.deployRelease(releaseId);
+    public ResponseEntity<ReleaseSummaryDto> deployRelease(@PathVariable Long releaseId) {
+        ReleaseSummaryDto release = releaseService.deployRelease(releaseId);
+        return ResponseEntity.ok(release);
+    }
+
+    @PutMapping("/releases/{releaseId}/sprints/{sprintId}")
+    public ResponseEntity<ReleaseSummaryDto> assignSprint(@PathVariable Long releaseId, @PathVariable Long sprintId) {
+        ReleaseSummaryDto release = releaseService.assignSprint(releaseId, sprintId);
+        return ResponseEntity.ok(release);
+    }
+
+    @DeleteMapping("/releases/{releaseId}/sprints/{sprintId}")
+    public ResponseEntity<ReleaseSummaryDto> unassignSprint(@PathVariable Long releaseId, @PathVariable Long sprintId) {
+        ReleaseSummaryDto release = releaseService.unassignSprint(releaseId, sprintId);
         return ResponseEntity.ok(release);
     }
 
@@ -308,6 +345,13 @@ public class ProductOwnerController {
         private List<Long> itemIdsInOrder;
     }
 
+    @lombok.Data
+    public static class MoveBacklogItemRequest {
+        private Long itemId;
+        private Long beforeId;
+        private Long afterId;
+    }
+
     @lombok.Data
     public static class MoveToSprintRequest {
         private Long sprintId;
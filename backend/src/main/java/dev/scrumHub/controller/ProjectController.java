@@ -1,16 +1,25 @@
 package dev.scrumHub.controller;
 
 import dev.scrumHub.dto.CreateProjectRequestDto;
+import dev.scrumHub.dto.CumulativeFlowDto;
+import dev.scrumHub.dto.FlowMetricsDto;
+import dev.scrumHub.dto.ProjectDeletionJobDto;
 import dev.scrumHub.dto.ProjectDto;
 import dev.scrumHub.dto.ProjectResponseDto;
+import dev.scrumHub.dto.VelocityDto;
+import dev.scrumHub.service.CumulativeFlowService;
+import dev.scrumHub.service.FlowMetricsService;
 import dev.scrumHub.service.ProjectService;
+import dev.scrumHub.service.VelocityService;
 import lombok.RequiredArgsConstructor; 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -21,6 +30,9 @@ import java.util.Map;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final VelocityService velocityService;
+    private final CumulativeFlowService cumulativeFlowService;
+    private final FlowMetricsService flowMetricsService;
 
     @GetMapping
     public ResponseEntity<List<ProjectResponseDto>> getAllProjects(
@@ -51,6 +63,29 @@ public class ProjectController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/velocity")
+    public ResponseEntity<VelocityDto> getProjectVelocity(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer window) {
+        return ResponseEntity.ok(velocityService.getVelocity(id, window));
+    }
+
+    @GetMapping("/{id}/cfd")
+    public ResponseEntity<CumulativeFlowDto> getCumulativeFlow(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long sprintId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(cumulativeFlowService.getCumulativeFlow(id, sprintId, from, to));
+    }
+
+    @GetMapping("/{id}/flow-metrics")
+    public ResponseEntity<FlowMetricsDto> getFlowMetrics(
+            @PathVariable Long id,
+            @RequestParam(required = false) String dimension) {
+        return ResponseEntity.ok(flowMetricsService.getFlowMetrics(id, dimension));
+    }
+
     @GetMapping("/key/{key}")
     public ResponseEntity<ProjectDto> getProjectByKey(@PathVariable String key) {
         return projectService.getProjectByKey(key)
@@ -119,14 +154,25 @@ public class ProjectController {
     @PreAuthorize("hasRole('SCRUM_MASTER')")
     public ResponseEntity<?> hardDeleteProject(@PathVariable Long id) {
         try {
-            projectService.hardDeleteProject(id);
-            return ResponseEntity.ok(Map.of("message", "Project permanently deleted"));
+            ProjectDeletionJobDto job = projectService.hardDeleteProject(id);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("message", e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("message", e.getMessage()));
         }
     }
 
+    @GetMapping("/{id}/hard")
+    @PreAuthorize("hasRole('SCRUM_MASTER')")
+    public ResponseEntity<ProjectDeletionJobDto> getHardDeleteStatus(@PathVariable Long id) {
+        return projectService.getHardDeleteStatus(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/check-name")
     public ResponseEntity<Map<String, Boolean>> checkProjectName(@RequestParam String name) {
         boolean exists = projectService.existsByName(name);
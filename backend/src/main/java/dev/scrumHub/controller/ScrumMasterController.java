@@ -1,10 +1,13 @@
 package dev.scrumHub.controller;
 
+import dev.scrumHub.dto.TaskFilterDto;
 import dev.scrumHub.dto.TaskResponseDto;
 import dev.scrumHub.service.TaskService;
 import dev.scrumHub.service.ProjectService;
 import dev.scrumHub.service.UserService;
 import dev.scrumHub.service.TaskCommentService;
+import dev.scrumHub.service.TaskStatsService;
+import dev.scrumHub.model.Task.TaskStatus;
 import dev.scrumHub.model.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.EnumMap;
 
 @RestController
 @RequestMapping("/api/scrum-master")
@@ -28,6 +32,7 @@ public class ScrumMasterController {
     private final ProjectService projectService;
     private final UserService userService;
     private final TaskCommentService commentService;
+    private final TaskStatsService taskStatsService;
 
     @GetMapping("/dashboard/stats")
     @PreAuthorize("hasRole('SCRUM_MASTER')")
@@ -37,22 +42,19 @@ public class ScrumMasterController {
         User user = userService.findByEmail(userDetails.getUsername())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        List<TaskResponseDto> allTasks;
-        if (projectId != null) {
-            allTasks = taskService.getTasksByProjectId(projectId);
-        } else {
-            allTasks = new ArrayList<>();
-        }
+        Map<TaskStatus, Long> counts = projectId != null
+                ? taskStatsService.countByProject(projectId)
+                : new EnumMap<>(TaskStatus.class);
 
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalTasks", allTasks.size());
-        stats.put("completed", allTasks.stream().filter(t -> "DONE".equals(t.getStatus())).count());
-        stats.put("inProgress", allTasks.stream().filter(t -> "IN_PROGRESS".equals(t.getStatus())).count());
-        stats.put("blocked", allTasks.stream().filter(t -> "BUG_FOUND".equals(t.getStatus())).count());
-        stats.put("toDo", allTasks.stream().filter(t -> "TO_DO".equals(t.getStatus())).count());
-        stats.put("readyForTesting", allTasks.stream().filter(t -> "READY_FOR_TESTING".equals(t.getStatus())).count());
-        stats.put("inTesting", allTasks.stream().filter(t -> "IN_TESTING".equals(t.getStatus())).count());
-        stats.put("testPassed", allTasks.stream().filter(t -> "TEST_PASSED".equals(t.getStatus())).count());
+        stats.put("totalTasks", (int) TaskStatsService.total(counts));
+        stats.put("completed", counts.getOrDefault(TaskStatus.DONE, 0L));
+        stats.put("inProgress", counts.getOrDefault(TaskStatus.IN_PROGRESS, 0L));
+        stats.put("blocked", counts.getOrDefault(TaskStatus.BUG_FOUND, 0L));
+        stats.put("toDo", counts.getOrDefault(TaskStatus.TO_DO, 0L));
+        stats.put("readyForTesting", counts.getOrDefault(TaskStatus.READY_FOR_TESTING, 0L));
+        stats.put("inTesting", counts.getOrDefault(TaskStatus.IN_TESTING, 0L));
+        stats.put("testPassed", counts.getOrDefault(TaskStatus.TEST_PASSED, 0L));
 
         return ResponseEntity.ok(stats);
     }
@@ -85,7 +87,7 @@ public class ScrumMasterController {
                     .orElseThrow(() -> new RuntimeException("User not found"));
 
             TaskResponseDto updatedTask = taskService.updateTaskStatus(taskId,
-                    dev.scrumHub.model.Task.TaskStatus.valueOf(newStatusStr.toUpperCase()));
+                    dev.scrumHub.model.Task.TaskStatus.valueOf(newStatusStr.toUpperCase()), currentUser.getId());
 
             if (!oldStatus.equals(updatedTask.getStatus())) {
                 commentService.createStatusChangeComment(taskId, oldStatus, updatedTask.getStatus(), currentUser);
@@ -100,27 +102,34 @@ public class ScrumMasterController {
 
     @GetMapping("/tasks")
     @PreAuthorize("hasRole('SCRUM_MASTER')")
-    public ResponseEntity<List<TaskResponseDto>> getAllTasks(
+    public ResponseEntity<?> getAllTasks(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) Long projectId,
-            @RequestParam(required = false) Long sprintId) {
-
-        List<TaskResponseDto> tasks;
-
-        if (sprintId != null) {
-            tasks = taskService.getTasksBySprintId(sprintId);
-        } else if (projectId != null) {
-            tasks = taskService.getTasksByProjectId(projectId);
-        } else {
-            tasks = new ArrayList<>();
+            @RequestParam(required = false) Long sprintId,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        if (sprintId == null && projectId == null) {
+            return ResponseEntity.ok(new ArrayList<>());
         }
 
-        if (status != null && !status.trim().isEmpty()) {
-            tasks = tasks.stream()
-                    .filter(task -> status.equalsIgnoreCase(task.getStatus()))
-                    .toList();
+        TaskFilterDto filter = TaskFilterDto.builder()
+                .projectId(projectId)
+                .sprintId(sprintId)
+                .assigneeId(assigneeId)
+                .status(status)
+                .type(type)
+                .priority(priority)
+                .cursor(cursor)
+                .size(size)
+                .build();
+
+        if (filter.isPaged()) {
+            return ResponseEntity.ok(taskService.getTaskPage(filter));
         }
-
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok(taskService.findTasks(filter));
     }
 }
\ No newline at end of file
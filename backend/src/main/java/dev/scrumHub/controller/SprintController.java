@@ -1,9 +1,11 @@
 package dev.scrumHub.controller;
 
+import dev.scrumHub.dto.BurndownDto;
 import dev.scrumHub.dto.CreateSprintRequestDto;
 import dev.scrumHub.dto.SprintResponseDto;
 import dev.scrumHub.dto.UpdateSprintStatusRequestDto;
 import dev.scrumHub.service.SprintService;
+import dev.scrumHub.service.SprintSnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +23,7 @@ import java.util.Map;
 public class SprintController {
 
     private final SprintService sprintService;
+    private final SprintSnapshotService sprintSnapshotService;
 
     @GetMapping
     public ResponseEntity<List<SprintResponseDto>> getSprintsByProject(
@@ -39,6 +42,15 @@ public class SprintController {
         }
     }
 
+    @GetMapping("/{id}/burndown")
+    public ResponseEntity<BurndownDto> getSprintBurndown(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(sprintSnapshotService.getBurndown(id));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @PostMapping
     @PreAuthorize("hasRole('SCRUM_MASTER')")
     public ResponseEntity<?> createSprint(@Valid @RequestBody CreateSprintRequestDto requestDto) {
@@ -2,18 +2,29 @@ package dev.scrumHub.controller;
 
 import dev.scrumHub.dto.AssignTaskRequestDto;
 import dev.scrumHub.dto.CreateTaskRequestDto;
+import dev.scrumHub.dto.TaskFilterDto;
 import dev.scrumHub.dto.TaskResponseDto;
 import dev.scrumHub.model.Task.TaskStatus;
+import dev.scrumHub.model.User;
 import dev.scrumHub.service.TaskService;
+import dev.scrumHub.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -21,28 +32,81 @@ import java.util.Map;
 @CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174", "http://localhost:5177", "http://localhost:5178"})
 public class TaskController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final int STREAM_FLUSH_INTERVAL = 100;
+
     private final TaskService taskService;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<List<TaskResponseDto>> getTasks(
+    public ResponseEntity<?> getTasks(
             @RequestParam(required = false) Long projectId,
             @RequestParam(required = false) Long sprintId,
-            @RequestParam(required = false) Long assigneeId) {
-        
-        List<TaskResponseDto> tasks;
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean stream,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         
-        if (sprintId != null) {
-            tasks = taskService.getTasksBySprintId(sprintId);
-        } else if (projectId != null) {
-            tasks = taskService.getTasksByProjectId(projectId);
-        } else if (assigneeId != null) {
-            tasks = taskService.getTasksByAssigneeId(assigneeId);
-        } else {
+        if (sprintId == null && projectId == null && assigneeId == null) {
             return ResponseEntity.badRequest()
                     .body(null);
         }
-        
-        return ResponseEntity.ok(tasks);
+
+        TaskFilterDto filter = TaskFilterDto.builder()
+                .projectId(projectId)
+                .sprintId(sprintId)
+                .assigneeId(assigneeId)
+                .status(status)
+                .type(type)
+                .priority(priority)
+                .cursor(cursor)
+                .size(size)
+                .build();
+
+        if (stream || (accept != null && accept.contains(NDJSON_VALUE))) {
+            return streamTasks(filter);
+        }
+        if (filter.isPaged()) {
+            return ResponseEntity.ok(taskService.getTaskPage(filter));
+        }
+        return ResponseEntity.ok(taskService.findTasks(filter));
+    }
+
+    private ResponseEntity<?> streamTasks(TaskFilterDto filter) {
+        try {
+            taskService.validateFilter(filter);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            AtomicLong written = new AtomicLong();
+            try {
+                taskService.streamTasks(filter, task -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(task));
+                        outputStream.write('\n');
+                        if (written.incrementAndGet() % STREAM_FLUSH_INTERVAL == 0) {
+                            outputStream.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            outputStream.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -84,7 +148,8 @@ public class TaskController {
     @PutMapping("/{id}/status")
     public ResponseEntity<?> updateTaskStatus(
             @PathVariable Long id,
-            @RequestBody Map<String, String> statusRequest) {
+            @RequestBody Map<String, String> statusRequest,
+            @AuthenticationPrincipal UserDetails userDetails) {
         try {
             String statusStr = statusRequest.get("status");
             if (statusStr == null || statusStr.trim().isEmpty()) {
@@ -93,7 +158,9 @@ public class TaskController {
             }
             
             TaskStatus status = TaskStatus.valueOf(statusStr.toUpperCase());
-            TaskResponseDto updatedTask = taskService.updateTaskStatus(id, status);
+            User currentUser = userService.findByEmail(userDetails.getUsername())
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            TaskResponseDto updatedTask = taskService.updateTaskStatus(id, status, currentUser.getId());
             return ResponseEntity.ok(updatedTask);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -106,9 +173,12 @@ public class TaskController {
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('SCRUM_MASTER')")
-    public ResponseEntity<?> deleteTask(@PathVariable Long id) {
+    public ResponseEntity<?> deleteTask(@PathVariable Long id,
+                                        @AuthenticationPrincipal UserDetails userDetails) {
         try {
-            taskService.deleteTask(id);
+            User currentUser = userService.findByEmail(userDetails.getUsername())
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            taskService.deleteTask(id, currentUser.getId());
             return ResponseEntity.ok(Map.of("message", "Task deleted successfully"));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -1,5 +1,6 @@
 package dev.scrumHub.controller;
 
+import dev.scrumHub.dto.TaskFilterDto;
 import dev.scrumHub.dto.TaskResponseDto;
 import dev.scrumHub.service.TaskService;
 import dev.scrumHub.service.ProjectService;
@@ -40,17 +41,35 @@ public class TesterController {
     }
 
     @GetMapping("/tasks")
-    public ResponseEntity<List<TaskResponseDto>> getTestingTasks(
+    public ResponseEntity<?> getTestingTasks(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) Long projectId,
-            @RequestParam(required = false) Long sprintId) {
+            @RequestParam(required = false) Long sprintId,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
 
         User user = userService.findByEmail(userDetails.getUsername())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        List<TaskResponseDto> tasks = testerService.getTestingTasks(user.getId(), status, projectId, sprintId);
-        return ResponseEntity.ok(tasks);
+        TaskFilterDto filter = TaskFilterDto.builder()
+                .projectId(projectId)
+                .sprintId(sprintId)
+                .assigneeId(assigneeId)
+                .status(status)
+                .type(type)
+                .priority(priority)
+                .cursor(cursor)
+                .size(size)
+                .build();
+
+        if (filter.isPaged()) {
+            return ResponseEntity.ok(testerService.getTestingTaskPage(user.getId(), filter));
+        }
+        return ResponseEntity.ok(testerService.getTestingTasks(user.getId(), filter));
     }
 
     @GetMapping("/tasks/ready-for-testing")
@@ -101,7 +120,7 @@ public class TesterController {
                         .body(Map.of("message", "Invalid status transition from " + oldStatus + " to " + statusStr));
             }
 
-            TaskResponseDto updatedTask = taskService.updateTaskStatus(taskId, TaskStatus.valueOf(statusStr.toUpperCase()));
+            TaskResponseDto updatedTask = taskService.updateTaskStatus(taskId, TaskStatus.valueOf(statusStr.toUpperCase()), user.getId());
 
             if (!oldStatus.equals(updatedTask.getStatus())) {
                 commentService.createStatusChangeComment(taskId, oldStatus, updatedTask.getStatus(), user);
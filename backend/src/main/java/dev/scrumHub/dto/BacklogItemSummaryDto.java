@@ -0,0 +1,26 @@
+package dev.scrumHub.dto;
+
+import dev.scrumHub.model.ProductBacklogItem;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacklogItemSummaryDto {
+    private Long id;
+    private String title;
+    private ProductBacklogItem.BacklogItemType type;
+    private ProductBacklogItem.BacklogStatus status;
+    private ProductBacklogItem.BacklogPriority priority;
+    private Integer storyPoints;
+    private Integer businessValue;
+    private Long epicId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
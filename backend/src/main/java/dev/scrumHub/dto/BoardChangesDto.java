@@ -0,0 +1,20 @@
+package dev.scrumHub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardChangesDto {
+    private List<TaskResponseDto> updated;
+    private List<Long> deletedTaskIds;
+    private String cursor;
+    private boolean hasMore;
+    private boolean fullSync;
+}
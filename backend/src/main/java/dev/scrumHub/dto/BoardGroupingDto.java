@@ -0,0 +1,25 @@
+package dev.scrumHub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardGroupingDto {
+    private List<String> groupBy;
+    private Map<String, Object> groups;
+    private Map<String, Integer> statusCounts;
+    private Map<String, Integer> priorityCounts;
+    private Map<String, Integer> typeCounts;
+    private Map<String, Integer> assigneeCounts;
+    private Map<String, String> assignees;
+    private int totalTasks;
+    private int unassignedTasks;
+}
@@ -0,0 +1,12 @@
+package dev.scrumHub.dto;
+
+import lombok.Data;
+
+@Data
+public class BulkBacklogOperationDto {
+    private Long itemId;
+    private String operation;
+    private String priority;
+    private Long epicId;
+    private Long sprintId;
+}
@@ -0,0 +1,10 @@
+package dev.scrumHub.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkBacklogRequestDto {
+    private List<BulkBacklogOperationDto> operations;
+}
@@ -0,0 +1,18 @@
+package dev.scrumHub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBacklogResponseDto {
+    private int succeeded;
+    private int failed;
+    private List<BulkBacklogResultDto> results;
+}
@@ -0,0 +1,18 @@
+package dev.scrumHub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBacklogResultDto {
+    private Long itemId;
+    private String operation;
+    private boolean success;
+    private String error;
+    private Long taskId;
+}
@@ -0,0 +1,21 @@
+package dev.scrumHub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownDto {
+    private Long sprintId;
+    private String sprintName;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<BurndownPointDto> points;
+}
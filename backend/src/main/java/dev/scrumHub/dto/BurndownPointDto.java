@@ -0,0 +1,24 @@
+package dev.scrumHub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownPointDto {
+    private LocalDate date;
+    private Integer totalTasks;
+    private Integer completedTasks;
+    private Integer remainingTasks;
+    private Integer totalHours;
+    private Integer completedHours;
+    private Integer remainingHours;
+    private Double idealRemainingTasks;
+    private Double idealRemainingHours;
+}
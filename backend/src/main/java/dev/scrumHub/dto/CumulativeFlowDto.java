@@ -0,0 +1,23 @@
+package dev.scrumHub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CumulativeFlowDto {
+    private Long projectId;
+    private Long sprintId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<String> statuses;
+    private List<LocalDate> dates;
+    private int[][] counts;
+}
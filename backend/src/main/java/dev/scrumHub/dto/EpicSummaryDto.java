@@ -0,0 +1,37 @@
+package dev.scrumHub.dto;
+
+import dev.scrumHub.model.Epic;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EpicSummaryDto {
+    private Long id;
+    private Long projectId;
+    private String title;
+    private String description;
+    private String businessValue;
+    private Epic.EpicStatus status;
+    private Epic.EpicPriority priority;
+    private Integer estimatedStoryPoints;
+    private String targetRelease;
+    private LocalDateTime startDate;
+    private LocalDateTime targetCompletionDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private long totalItems;
+    private long doneItems;
+    private long totalStoryPoints;
+    private long completedStoryPoints;
+    private double completionPercentage;
+    private boolean completed;
+    private boolean overdue;
+    private long daysUntilTarget;
+}
@@ -0,0 +1,21 @@
+package dev.scrumHub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlowMetricDto {
+    private String dimension;
+    private String key;
+    private Long count;
+    private Double meanHours;
+    private Double p50Hours;
+    private Double p85Hours;
+    private Double p95Hours;
+    private Double maxHours;
+}
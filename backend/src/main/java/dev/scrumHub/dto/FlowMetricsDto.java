@@ -0,0 +1,18 @@
+package dev.scrumHub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlowMetricsDto {
+    private Long projectId;
+    private List<FlowMetricDto> cycleTime;
+    private List<FlowMetricDto> leadTime;
+}
@@ -0,0 +1,26 @@
+package dev.scrumHub.dto;
+
+import dev.scrumHub.service.EpicService;
+import dev.scrumHub.service.ProductBacklogService;
+import dev.scrumHub.service.ReleaseService;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductOwnerDashboardDto {
+    private Long projectId;
+    private ProductBacklogService.BacklogStatistics backlogStats;
+    private EpicService.EpicStatistics epicStats;
+    private ReleaseService.ReleaseStatistics releaseStats;
+    private List<BacklogItemSummaryDto> recentItems;
+    private List<EpicSummaryDto> recentEpics;
+    private List<ReleaseSummaryDto> upcomingReleases;
+    private List<String> unavailableSections;
+}
@@ -0,0 +1,26 @@
+package dev.scrumHub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDeletionJobDto {
+    private Long id;
+    private Long projectId;
+    private String projectName;
+    private String status;
+    private String phase;
+    private Long rowsDeleted;
+    private Long filesDeleted;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+}
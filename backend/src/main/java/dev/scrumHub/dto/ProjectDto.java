@@ -31,6 +31,7 @@ public class ProjectDto {
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private boolean active;
+    private String status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
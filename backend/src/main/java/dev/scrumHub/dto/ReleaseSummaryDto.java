@@ -0,0 +1,44 @@
+package dev.scrumHub.dto;
+
+import dev.scrumHub.model.Release;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseSummaryDto {
+    private Long id;
+    private Long projectId;
+    private String name;
+    private String versionNumber;
+    private String description;
+    private String releaseNotes;
+    private Release.ReleaseStatus status;
+    private Release.ReleasePriority priority;
+    private LocalDateTime plannedStartDate;
+    private LocalDateTime plannedReleaseDate;
+    private LocalDateTime actualReleaseDate;
+    private Integer targetStoryPoints;
+    private String releaseGoals;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private int totalSprints;
+    private int activeSprints;
+    private int completedSprints;
+    private int totalTasks;
+    private int completedTasks;
+    private int totalStoryPoints;
+    private int completedStoryPoints;
+    private double completionPercentage;
+    private LocalDateTime estimatedCompletionDate;
+    private boolean canBeReleased;
+    private boolean overdue;
+    private long daysUntilRelease;
+    private LocalDateTime progressRefreshedAt;
+}
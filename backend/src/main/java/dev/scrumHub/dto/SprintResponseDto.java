@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 @Builder
@@ -23,6 +24,9 @@ public class SprintResponseDto {
     private Integer totalTasks;
     private Integer completedTasks;
     private Integer progress;
+    private Map<String, Integer> statusCounts;
+    private Integer storyPoints;
+    private Integer completedStoryPoints;
     private boolean active;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -0,0 +1,23 @@
+package dev.scrumHub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintVelocityDto {
+    private Long sprintId;
+    private String sprintName;
+    private LocalDateTime completedAt;
+    private Integer committedTasks;
+    private Integer completedTasks;
+    private Integer committedHours;
+    private Integer completedHours;
+    private Integer completedStoryPoints;
+}
@@ -0,0 +1,28 @@
+package dev.scrumHub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilterDto {
+    private Long projectId;
+    private Collection<Long> projectIds;
+    private Long sprintId;
+    private Long assigneeId;
+    private String status;
+    private String type;
+    private String priority;
+    private String cursor;
+    private Integer size;
+
+    public boolean isPaged() {
+        return cursor != null || size != null;
+    }
+}
@@ -0,0 +1,19 @@
+package dev.scrumHub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageDto {
+    private List<TaskResponseDto> items;
+    private String nextCursor;
+    private boolean hasMore;
+    private int size;
+}
@@ -5,4 +5,5 @@ import lombok.Data;
 @Data
 public class UpdateSprintStatusRequestDto {
     private boolean active;
+    private String status;
 }
\ No newline at end of file
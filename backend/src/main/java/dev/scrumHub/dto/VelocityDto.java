@@ -0,0 +1,25 @@
+package dev.scrumHub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VelocityDto {
+    private Long projectId;
+    private Integer window;
+    private Integer sampleSize;
+    private Double averageCompletedTasks;
+    private Double stdDevCompletedTasks;
+    private Double averageCompletedHours;
+    private Double stdDevCompletedHours;
+    private Double averageStoryPoints;
+    private Double stdDevStoryPoints;
+    private List<SprintVelocityDto> sprints;
+}
@@ -0,0 +1,29 @@
+package dev.scrumHub.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "app_settings")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppSetting {
+
+    @Id
+    @Column(name = "setting_key", length = 100)
+    private String key;
+
+    @Column(name = "setting_value", length = 1000)
+    private String value;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
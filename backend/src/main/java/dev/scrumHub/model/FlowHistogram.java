@@ -0,0 +1,63 @@
+package dev.scrumHub.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "flow_histograms", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_flow_histograms_key",
+                columnNames = {"project_id", "metric", "dimension", "dimension_key"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlowHistogram {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private FlowMetric metric;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private FlowDimension dimension;
+
+    @Column(name = "dimension_key", nullable = false, length = 64)
+    private String dimensionKey;
+
+    @Column(name = "sample_count", nullable = false)
+    private long sampleCount;
+
+    @Column(name = "total_minutes", nullable = false)
+    private long totalMinutes;
+
+    @Column(name = "max_minutes", nullable = false)
+    private long maxMinutes;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String buckets;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public enum FlowMetric {
+        CYCLE_TIME, LEAD_TIME
+    }
+
+    public enum FlowDimension {
+        PROJECT, SPRINT, ASSIGNEE, TYPE
+    }
+}
@@ -0,0 +1,47 @@
+package dev.scrumHub.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "flow_snapshots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_flow_snapshots_scope_date", columnNames = {"scope", "scope_id", "snapshot_date"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlowSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false, length = 16)
+    private FlowScope scope;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Embedded
+    @Builder.Default
+    private TaskCounters counters = new TaskCounters();
+
+    @UpdateTimestamp
+    private LocalDateTime capturedAt;
+
+    public enum FlowScope {
+        PROJECT, SPRINT
+    }
+}
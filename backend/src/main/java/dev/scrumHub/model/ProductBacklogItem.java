@@ -9,7 +9,9 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "product_backlog_items")
+@Table(name = "product_backlog_items", indexes = {
+        @Index(name = "idx_backlog_items_project_rank", columnList = "project_id, backlog_rank")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -50,6 +52,9 @@ public class ProductBacklogItem {
     @Builder.Default
     private Integer backlogPriorityOrder = 999;
 
+    @Column(name = "backlog_rank", length = 64)
+    private String backlogRank;
+
     @Column(name = "story_points")
     private Integer storyPoints;
 
@@ -0,0 +1,72 @@
+package dev.scrumHub.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "project_deletion_jobs", indexes = {
+        @Index(name = "idx_project_deletion_jobs_project", columnList = "project_id"),
+        @Index(name = "idx_project_deletion_jobs_status", columnList = "status")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDeletionJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "project_name")
+    private String projectName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    @Builder.Default
+    private DeletionStatus status = DeletionStatus.PENDING;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    @Builder.Default
+    private DeletionPhase phase = DeletionPhase.ATTACHMENTS;
+
+    @Column(name = "rows_deleted", nullable = false)
+    private long rowsDeleted;
+
+    @Column(name = "files_deleted", nullable = false)
+    private long filesDeleted;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "requested_by")
+    private Long requestedBy;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    public enum DeletionStatus {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    public enum DeletionPhase {
+        ATTACHMENTS, COMMENTS, BACKLOG_ITEMS, TASKS, SPRINTS, RELEASES, EPICS, MEMBERS, ANALYTICS, PROJECT
+    }
+}
@@ -0,0 +1,36 @@
+package dev.scrumHub.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "project_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStats {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Embedded
+    @Builder.Default
+    private TaskCounters counters = new TaskCounters();
+
+    @Column(name = "member_count", nullable = false)
+    private long memberCount;
+
+    @Column(name = "sprint_count", nullable = false)
+    private long sprintCount;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
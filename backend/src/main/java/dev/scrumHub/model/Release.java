@@ -108,29 +108,6 @@ public class Release {
         sprint.setRelease(null);
     }
 
-    public int getCompletedStoryPoints() {
-        return sprints.stream()
-                .filter(sprint -> sprint.getStatus() == Sprint.SprintStatus.COMPLETED)
-                .mapToInt(this::getSprintStoryPoints)
-                .sum();
-    }
-
-    public int getTotalStoryPoints() {
-        return sprints.stream()
-                .mapToInt(this::getSprintStoryPoints)
-                .sum();
-    }
-
-    private int getSprintStoryPoints(Sprint sprint) {
-        return 0;
-    }
-
-    public double getCompletionPercentage() {
-        int total = getTotalStoryPoints();
-        if (total == 0) return 0.0;
-        return (double) getCompletedStoryPoints() / total * 100.0;
-    }
-
     public boolean isOverdue() {
         return plannedReleaseDate != null &&
                LocalDateTime.now().isAfter(plannedReleaseDate) &&
@@ -150,45 +127,6 @@ public class Release {
         return status == ReleaseStatus.RELEASED;
     }
 
-    public int getActiveSprints() {
-        return (int) sprints.stream()
-                .filter(sprint -> sprint.getStatus() == Sprint.SprintStatus.ACTIVE)
-                .count();
-    }
-
-    public int getCompletedSprints() {
-        return (int) sprints.stream()
-                .filter(sprint -> sprint.getStatus() == Sprint.SprintStatus.COMPLETED)
-                .count();
-    }
-
-    public Sprint getCurrentSprint() {
-        return sprints.stream()
-                .filter(sprint -> sprint.getStatus() == Sprint.SprintStatus.ACTIVE)
-                .findFirst()
-                .orElse(null);
-    }
-
-    public Sprint getNextPlannedSprint() {
-        return sprints.stream()
-                .filter(sprint -> sprint.getStatus() == Sprint.SprintStatus.PLANNED)
-                .findFirst()
-                .orElse(null);
-    }
-
-    public LocalDateTime getEstimatedCompletionDate() {
-        return sprints.stream()
-                .map(Sprint::getEndDate)
-                .max(LocalDateTime::compareTo)
-                .orElse(plannedReleaseDate);
-    }
-
-    public boolean canBeReleased() {
-        return status == ReleaseStatus.READY &&
-               sprints.stream().allMatch(sprint ->
-                       sprint.getStatus() == Sprint.SprintStatus.COMPLETED);
-    }
-
     public void markAsReleased() {
         this.status = ReleaseStatus.RELEASED;
         this.actualReleaseDate = LocalDateTime.now();
@@ -0,0 +1,54 @@
+package dev.scrumHub.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "release_progress", indexes = {
+        @Index(name = "idx_release_progress_project", columnList = "project_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseProgress {
+
+    @Id
+    @Column(name = "release_id")
+    private Long releaseId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "total_sprints", nullable = false)
+    private int totalSprints;
+
+    @Column(name = "active_sprints", nullable = false)
+    private int activeSprints;
+
+    @Column(name = "completed_sprints", nullable = false)
+    private int completedSprints;
+
+    @Column(name = "total_tasks", nullable = false)
+    private int totalTasks;
+
+    @Column(name = "completed_tasks", nullable = false)
+    private int completedTasks;
+
+    @Column(name = "total_story_points", nullable = false)
+    private int totalStoryPoints;
+
+    @Column(name = "completed_story_points", nullable = false)
+    private int completedStoryPoints;
+
+    @Column(name = "latest_sprint_end_date")
+    private LocalDateTime latestSprintEndDate;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
@@ -59,6 +59,10 @@ public class Sprint {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     public enum SprintStatus {
         PLANNED, ACTIVE, COMPLETED
     }
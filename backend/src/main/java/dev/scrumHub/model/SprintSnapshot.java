@@ -0,0 +1,47 @@
+package dev.scrumHub.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "sprint_snapshots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sprint_snapshots_sprint_date", columnNames = {"sprint_id", "snapshot_date"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sprint_id", nullable = false)
+    private Long sprintId;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "total_tasks", nullable = false)
+    private int totalTasks;
+
+    @Column(name = "completed_tasks", nullable = false)
+    private int completedTasks;
+
+    @Column(name = "total_hours", nullable = false)
+    private int totalHours;
+
+    @Column(name = "completed_hours", nullable = false)
+    private int completedHours;
+
+    @UpdateTimestamp
+    private LocalDateTime capturedAt;
+}
@@ -0,0 +1,35 @@
+package dev.scrumHub.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "sprint_stats", indexes = {
+        @Index(name = "idx_sprint_stats_project", columnList = "project_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintStats {
+
+    @Id
+    @Column(name = "sprint_id")
+    private Long sprintId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Embedded
+    @Builder.Default
+    private TaskCounters counters = new TaskCounters();
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
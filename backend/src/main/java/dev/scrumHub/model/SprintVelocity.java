@@ -0,0 +1,45 @@
+package dev.scrumHub.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "sprint_velocities", indexes = {
+        @Index(name = "idx_sprint_velocities_project_completed", columnList = "project_id, completed_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintVelocity {
+
+    @Id
+    @Column(name = "sprint_id")
+    private Long sprintId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    @Column(name = "committed_tasks", nullable = false)
+    private int committedTasks;
+
+    @Column(name = "completed_tasks", nullable = false)
+    private int completedTasks;
+
+    @Column(name = "committed_hours", nullable = false)
+    private int committedHours;
+
+    @Column(name = "completed_hours", nullable = false)
+    private int completedHours;
+
+    @Column(name = "completed_story_points", nullable = false)
+    private int completedStoryPoints;
+}
@@ -14,7 +14,13 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_project_created", columnList = "project_id, created_at, id"),
+        @Index(name = "idx_tasks_sprint_created", columnList = "sprint_id, created_at, id"),
+        @Index(name = "idx_tasks_assignee_created", columnList = "assignee_id, created_at, id"),
+        @Index(name = "idx_tasks_project_updated", columnList = "project_id, updated_at, id"),
+        @Index(name = "idx_tasks_sprint_updated", columnList = "sprint_id, updated_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -55,6 +61,9 @@ public class Task {
     @Column
     private LocalDateTime dueDate;
 
+    @Column(name = "tag_mask")
+    private Long tagMask;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sprint_id")
     private Sprint sprint;
@@ -82,6 +91,27 @@ public class Task {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    @PreUpdate
+    void trackStatusTimestamps() {
+        if (status == TaskStatus.IN_PROGRESS && startedAt == null) {
+            startedAt = LocalDateTime.now();
+        }
+        if (status == TaskStatus.DONE) {
+            if (completedAt == null) {
+                completedAt = LocalDateTime.now();
+            }
+        } else {
+            completedAt = null;
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
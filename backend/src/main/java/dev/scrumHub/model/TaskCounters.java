@@ -0,0 +1,95 @@
+package dev.scrumHub.model;
+
+import dev.scrumHub.model.Task.TaskStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+public class TaskCounters {
+
+    @Column(name = "total_tasks", nullable = false)
+    private long totalTasks;
+
+    @Column(name = "to_do", nullable = false)
+    private long toDo;
+
+    @Column(name = "in_progress", nullable = false)
+    private long inProgress;
+
+    @Column(name = "ready_for_testing", nullable = false)
+    private long readyForTesting;
+
+    @Column(name = "in_testing", nullable = false)
+    private long inTesting;
+
+    @Column(name = "bug_found", nullable = false)
+    private long bugFound;
+
+    @Column(name = "test_passed", nullable = false)
+    private long testPassed;
+
+    @Column(name = "done", nullable = false)
+    private long done;
+
+    public long get(TaskStatus status) {
+        return switch (status) {
+            case TO_DO -> toDo;
+            case IN_PROGRESS -> inProgress;
+            case READY_FOR_TESTING -> readyForTesting;
+            case IN_TESTING -> inTesting;
+            case BUG_FOUND -> bugFound;
+            case TEST_PASSED -> testPassed;
+            case DONE -> done;
+        };
+    }
+
+    public void move(TaskStatus from, TaskStatus to) {
+        if (from == null) {
+            totalTasks++;
+        } else {
+            add(from, -1);
+        }
+        if (to == null) {
+            totalTasks--;
+        } else {
+            add(to, 1);
+        }
+    }
+
+    public void reset(Map<TaskStatus, Long> counts) {
+        totalTasks = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            long count = counts.getOrDefault(status, 0L);
+            add(status, count - get(status));
+            totalTasks += count;
+        }
+    }
+
+    public Map<TaskStatus, Long> toMap() {
+        EnumMap<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, get(status));
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private void add(TaskStatus status, long delta) {
+        switch (status) {
+            case TO_DO -> toDo += delta;
+            case IN_PROGRESS -> inProgress += delta;
+            case READY_FOR_TESTING -> readyForTesting += delta;
+            case IN_TESTING -> inTesting += delta;
+            case BUG_FOUND -> bugFound += delta;
+            case TEST_PASSED -> testPassed += delta;
+            case DONE -> done += delta;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.scrumHub.model;
+
+import dev.scrumHub.model.Task.TaskStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "task_transitions", indexes = {
+        @Index(name = "idx_task_transitions_task", columnList = "task_id, transitioned_at"),
+        @Index(name = "idx_task_transitions_project", columnList = "project_id, transitioned_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "sprint_id")
+    private Long sprintId;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "from_status", columnDefinition = "smallint")
+    private TaskStatus fromStatus;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "to_status", columnDefinition = "smallint")
+    private TaskStatus toStatus;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(name = "transitioned_at", nullable = false)
+    private LocalDateTime transitionedAt;
+}
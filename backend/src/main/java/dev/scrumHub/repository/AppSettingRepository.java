@@ -0,0 +1,9 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.model.AppSetting;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AppSettingRepository extends JpaRepository<AppSetting, String> {
+}
@@ -2,6 +2,7 @@ package dev.scrumHub.repository;
 
 import dev.scrumHub.model.Epic;
 import dev.scrumHub.model.Project;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -30,6 +31,9 @@ public interface EpicRepository extends JpaRepository<Epic, Long> {
     @Query("SELECT e FROM Epic e WHERE e.project.id = :projectId AND e.status NOT IN ('COMPLETED', 'CANCELLED') ORDER BY e.priority DESC, e.createdAt DESC")
     List<Epic> findActiveEpicsByProjectId(@Param("projectId") Long projectId);
 
+    @Query("SELECT e FROM Epic e WHERE e.project.id = :projectId AND e.status NOT IN ('COMPLETED', 'CANCELLED') ORDER BY e.priority DESC, e.createdAt DESC")
+    List<Epic> findActiveEpicsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
     @Query("SELECT e FROM Epic e WHERE e.project.id = :projectId AND e.status = 'COMPLETED' ORDER BY e.updatedAt DESC")
     List<Epic> findCompletedEpicsByProjectId(@Param("projectId") Long projectId);
 
@@ -0,0 +1,19 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.model.FlowHistogram;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FlowHistogramRepository extends JpaRepository<FlowHistogram, Long> {
+
+    List<FlowHistogram> findByProjectId(Long projectId);
+
+    @Query("SELECT fh FROM FlowHistogram fh WHERE fh.projectId IN :projectIds")
+    List<FlowHistogram> findByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+}
@@ -0,0 +1,37 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.model.FlowSnapshot;
+import dev.scrumHub.model.FlowSnapshot.FlowScope;
+import dev.scrumHub.repository.projection.SnapshotDateView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface FlowSnapshotRepository extends JpaRepository<FlowSnapshot, Long> {
+
+    @Query("SELECT fs FROM FlowSnapshot fs WHERE fs.scope = :scope AND fs.scopeId = :scopeId " +
+            "AND fs.snapshotDate BETWEEN :from AND :to ORDER BY fs.snapshotDate")
+    List<FlowSnapshot> findRange(@Param("scope") FlowScope scope,
+                                 @Param("scopeId") Long scopeId,
+                                 @Param("from") LocalDate from,
+                                 @Param("to") LocalDate to);
+
+    @Query("SELECT fs FROM FlowSnapshot fs WHERE fs.scope = :scope AND fs.scopeId = :scopeId " +
+            "AND fs.snapshotDate < :before ORDER BY fs.snapshotDate DESC")
+    List<FlowSnapshot> findLatestBefore(@Param("scope") FlowScope scope,
+                                        @Param("scopeId") Long scopeId,
+                                        @Param("before") LocalDate before,
+                                        Pageable pageable);
+
+    List<FlowSnapshot> findBySnapshotDate(LocalDate snapshotDate);
+
+    @Query("SELECT fs.scopeId AS scopeId, MAX(fs.snapshotDate) AS snapshotDate FROM FlowSnapshot fs " +
+            "WHERE fs.scope = :scope GROUP BY fs.scopeId")
+    List<SnapshotDateView> findLatestDates(@Param("scope") FlowScope scope);
+}
@@ -0,0 +1,20 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.model.PendingFileDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PendingFileDeletionRepository extends JpaRepository<PendingFileDeletion, Long> {
+
+    @Query("SELECT pfd FROM PendingFileDeletion pfd WHERE pfd.jobId = :jobId ORDER BY pfd.id")
+    List<PendingFileDeletion> findByJobId(@Param("jobId") Long jobId, Pageable pageable);
+
+    @Query("SELECT DISTINCT pfd.jobId FROM PendingFileDeletion pfd")
+    List<Long> findJobIds();
+}
@@ -3,53 +3,61 @@ package dev.scrumHub.repository;
 import dev.scrumHub.model.ProductBacklogItem;
 import dev.scrumHub.model.Project;
 import dev.scrumHub.model.Epic;
+import dev.scrumHub.repository.projection.BacklogRankView;
+import dev.scrumHub.repository.projection.EpicProgressView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProductBacklogItemRepository extends JpaRepository<ProductBacklogItem, Long> {
 
-    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId ORDER BY pbi.backlogPriorityOrder ASC, pbi.createdAt DESC")
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId ORDER BY pbi.backlogRank ASC, pbi.backlogPriorityOrder ASC, pbi.createdAt DESC")
     List<ProductBacklogItem> findProductBacklogByProjectIdOrderByPriority(@Param("projectId") Long projectId);
 
-    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.status = :status ORDER BY pbi.backlogPriorityOrder ASC")
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.status = :status ORDER BY pbi.backlogRank ASC, pbi.backlogPriorityOrder ASC")
     List<ProductBacklogItem> findByProjectIdAndStatusOrderByPriority(@Param("projectId") Long projectId, @Param("status") ProductBacklogItem.BacklogStatus status);
 
-    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.status = 'READY' ORDER BY pbi.backlogPriorityOrder ASC")
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.status = 'READY' ORDER BY pbi.backlogRank ASC, pbi.backlogPriorityOrder ASC")
     List<ProductBacklogItem> findReadyItemsByProjectIdOrderByPriority(@Param("projectId") Long projectId);
 
-    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND (pbi.status = 'NEW' OR pbi.storyPoints IS NULL OR pbi.acceptanceCriteria IS NULL OR pbi.acceptanceCriteria = '') ORDER BY pbi.backlogPriorityOrder ASC")
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.status = 'READY' ORDER BY pbi.backlogRank ASC, pbi.backlogPriorityOrder ASC")
+    List<ProductBacklogItem> findReadyItemsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND (pbi.status = 'NEW' OR pbi.storyPoints IS NULL OR pbi.acceptanceCriteria IS NULL OR pbi.acceptanceCriteria = '') ORDER BY pbi.backlogRank ASC, pbi.backlogPriorityOrder ASC")
     List<ProductBacklogItem> findItemsNeedingRefinementByProjectId(@Param("projectId") Long projectId);
 
     List<ProductBacklogItem> findByEpicOrderByBacklogPriorityOrderAsc(Epic epic);
 
-    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.epic.id = :epicId ORDER BY pbi.backlogPriorityOrder ASC")
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.epic.id = :epicId ORDER BY pbi.backlogRank ASC, pbi.backlogPriorityOrder ASC")
     List<ProductBacklogItem> findByEpicIdOrderByPriorityOrder(@Param("epicId") Long epicId);
 
-    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.epic IS NULL ORDER BY pbi.backlogPriorityOrder ASC")
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.epic IS NULL ORDER BY pbi.backlogRank ASC, pbi.backlogPriorityOrder ASC")
     List<ProductBacklogItem> findOrphanedItemsByProjectId(@Param("projectId") Long projectId);
 
-    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.type = :type ORDER BY pbi.backlogPriorityOrder ASC")
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.type = :type ORDER BY pbi.backlogRank ASC, pbi.backlogPriorityOrder ASC")
     List<ProductBacklogItem> findByProjectIdAndTypeOrderByPriority(@Param("projectId") Long projectId, @Param("type") ProductBacklogItem.BacklogItemType type);
 
-    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.priority = :priority ORDER BY pbi.backlogPriorityOrder ASC")
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.priority = :priority ORDER BY pbi.backlogRank ASC, pbi.backlogPriorityOrder ASC")
     List<ProductBacklogItem> findByProjectIdAndPriorityOrderByPriorityOrder(@Param("projectId") Long projectId, @Param("priority") ProductBacklogItem.BacklogPriority priority);
 
-    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.storyPoints >= :minPoints AND pbi.storyPoints <= :maxPoints ORDER BY pbi.backlogPriorityOrder ASC")
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.storyPoints >= :minPoints AND pbi.storyPoints <= :maxPoints ORDER BY pbi.backlogRank ASC, pbi.backlogPriorityOrder ASC")
     List<ProductBacklogItem> findByProjectIdAndStoryPointsRangeOrderByPriority(@Param("projectId") Long projectId, @Param("minPoints") Integer minPoints, @Param("maxPoints") Integer maxPoints);
 
-    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.assignedTo.id = :assignedToId ORDER BY pbi.backlogPriorityOrder ASC")
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.assignedTo.id = :assignedToId ORDER BY pbi.backlogRank ASC, pbi.backlogPriorityOrder ASC")
     List<ProductBacklogItem> findByProjectIdAndAssignedToIdOrderByPriority(@Param("projectId") Long projectId, @Param("assignedToId") Long assignedToId);
 
     @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.createdBy.id = :createdById ORDER BY pbi.createdAt DESC")
     List<ProductBacklogItem> findByProjectIdAndCreatedByIdOrderByCreatedAt(@Param("projectId") Long projectId, @Param("createdById") Long createdById);
 
-    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND (LOWER(pbi.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(pbi.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) ORDER BY pbi.backlogPriorityOrder ASC")
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND (LOWER(pbi.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(pbi.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) ORDER BY pbi.backlogRank ASC, pbi.backlogPriorityOrder ASC")
     List<ProductBacklogItem> searchByProjectIdAndContent(@Param("projectId") Long projectId, @Param("searchTerm") String searchTerm);
 
     @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId ORDER BY pbi.createdAt DESC")
@@ -58,6 +66,12 @@ public interface ProductBacklogItemRepository extends JpaRepository<ProductBackl
     @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.status = 'IN_SPRINT' ORDER BY pbi.movedToSprintAt DESC")
     List<ProductBacklogItem> findRecentlyMovedToSprintByProjectId(@Param("projectId") Long projectId);
 
+    @Query("SELECT COUNT(pbi) FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId")
+    long countByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT pbi FROM ProductBacklogItem pbi LEFT JOIN FETCH pbi.relatedTask WHERE pbi.id IN :ids")
+    List<ProductBacklogItem> findAllByIdWithRelatedTask(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT COUNT(pbi) FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.status = :status")
     Long countByProjectIdAndStatus(@Param("projectId") Long projectId, @Param("status") ProductBacklogItem.BacklogStatus status);
 
@@ -76,19 +90,66 @@ public interface ProductBacklogItemRepository extends JpaRepository<ProductBackl
     @Query("SELECT MAX(pbi.backlogPriorityOrder) FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId")
     Optional<Integer> findMaxPriorityOrderByProjectId(@Param("projectId") Long projectId);
 
-    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.status = 'READY' AND pbi.storyPoints IS NOT NULL ORDER BY pbi.backlogPriorityOrder ASC")
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.status = 'READY' AND pbi.storyPoints IS NOT NULL ORDER BY pbi.backlogRank ASC, pbi.backlogPriorityOrder ASC")
     List<ProductBacklogItem> findSprintReadyItemsByProjectId(@Param("projectId") Long projectId);
 
-    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.relatedTask IS NOT NULL ORDER BY pbi.backlogPriorityOrder ASC")
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.relatedTask IS NOT NULL ORDER BY pbi.backlogRank ASC, pbi.backlogPriorityOrder ASC")
     List<ProductBacklogItem> findItemsWithTasksByProjectId(@Param("projectId") Long projectId);
 
-    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.storyPoints IS NULL ORDER BY pbi.backlogPriorityOrder ASC")
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.storyPoints IS NULL ORDER BY pbi.backlogRank ASC, pbi.backlogPriorityOrder ASC")
     List<ProductBacklogItem> findItemsWithoutStoryPointsByProjectId(@Param("projectId") Long projectId);
 
-    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.businessValue >= :minValue AND pbi.businessValue <= :maxValue ORDER BY pbi.businessValue DESC, pbi.backlogPriorityOrder ASC")
+    @Query("SELECT pbi FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.businessValue >= :minValue AND pbi.businessValue <= :maxValue ORDER BY pbi.businessValue DESC, pbi.backlogRank ASC")
     List<ProductBacklogItem> findByProjectIdAndBusinessValueRangeOrderByValue(@Param("projectId") Long projectId, @Param("minValue") Integer minValue, @Param("maxValue") Integer maxValue);
 
     void deleteByProject(Project project);
 
     boolean existsByProjectAndTitle(Project project, String title);
-}
\ No newline at end of file
+
+    @Query("SELECT pbi.epic.id AS epicId, COUNT(pbi) AS totalItems, " +
+            "SUM(CASE WHEN pbi.status = :doneStatus THEN 1 ELSE 0 END) AS doneItems, " +
+            "COALESCE(SUM(pbi.storyPoints), 0) AS totalStoryPoints, " +
+            "COALESCE(SUM(CASE WHEN pbi.status = :doneStatus THEN pbi.storyPoints ELSE 0 END), 0) AS completedStoryPoints " +
+            "FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.epic IS NOT NULL GROUP BY pbi.epic.id")
+    List<EpicProgressView> summarizeEpicProgressByProjectId(@Param("projectId") Long projectId,
+                                                            @Param("doneStatus") ProductBacklogItem.BacklogStatus doneStatus);
+
+    @Query("SELECT MAX(pbi.backlogRank) FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId")
+    Optional<String> findMaxRankByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT COUNT(pbi) FROM ProductBacklogItem pbi " +
+            "WHERE pbi.project.id = :projectId AND pbi.backlogRank = :rank AND pbi.id <> :excludeId")
+    long countByProjectIdAndRank(@Param("projectId") Long projectId,
+                                 @Param("rank") String rank,
+                                 @Param("excludeId") Long excludeId);
+
+    @Query("SELECT MIN(pbi.backlogRank) FROM ProductBacklogItem pbi " +
+            "WHERE pbi.project.id = :projectId AND pbi.backlogRank > :rank AND pbi.id <> :excludeId")
+    Optional<String> findNextRank(@Param("projectId") Long projectId,
+                                  @Param("rank") String rank,
+                                  @Param("excludeId") Long excludeId);
+
+    @Query("SELECT MAX(pbi.backlogRank) FROM ProductBacklogItem pbi " +
+            "WHERE pbi.project.id = :projectId AND pbi.backlogRank < :rank AND pbi.id <> :excludeId")
+    Optional<String> findPreviousRank(@Param("projectId") Long projectId,
+                                      @Param("rank") String rank,
+                                      @Param("excludeId") Long excludeId);
+
+    @Query("SELECT pbi.id AS id, pbi.backlogRank AS rank FROM ProductBacklogItem pbi " +
+            "WHERE pbi.project.id = :projectId AND pbi.id IN :ids")
+    List<BacklogRankView> findRanks(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    @Query("SELECT pbi.id FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId " +
+            "ORDER BY pbi.backlogRank ASC NULLS LAST, pbi.backlogPriorityOrder ASC, pbi.createdAt DESC")
+    List<Long> findIdsByProjectIdInRankOrder(@Param("projectId") Long projectId);
+
+    @Query("SELECT DISTINCT pbi.project.id FROM ProductBacklogItem pbi WHERE pbi.backlogRank IS NULL")
+    List<Long> findProjectIdsWithUnrankedItems();
+
+    @Query("SELECT COUNT(pbi) FROM ProductBacklogItem pbi WHERE pbi.project.id = :projectId AND pbi.id IN :ids")
+    long countByProjectIdAndIds(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE ProductBacklogItem pbi SET pbi.backlogRank = :rank, pbi.updatedAt = CURRENT_TIMESTAMP WHERE pbi.id = :itemId")
+    int updateRank(@Param("itemId") Long itemId, @Param("rank") String rank);
+}
@@ -0,0 +1,27 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.model.ProjectDeletionJob;
+import dev.scrumHub.model.ProjectDeletionJob.DeletionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectDeletionJobRepository extends JpaRepository<ProjectDeletionJob, Long> {
+
+    Optional<ProjectDeletionJob> findFirstByProjectIdOrderByIdDesc(Long projectId);
+
+    boolean existsByProjectIdAndStatusIn(Long projectId, Collection<DeletionStatus> statuses);
+
+    List<ProjectDeletionJob> findByStatusInOrderById(Collection<DeletionStatus> statuses);
+
+    @Modifying
+    @Query("UPDATE ProjectDeletionJob j SET j.filesDeleted = j.filesDeleted + :count WHERE j.id = :jobId")
+    int incrementFilesDeleted(@Param("jobId") Long jobId, @Param("count") long count);
+}
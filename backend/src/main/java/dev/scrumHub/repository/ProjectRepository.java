@@ -1,7 +1,11 @@
 package dev.scrumHub.repository;
 
 import dev.scrumHub.model.Project;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +18,11 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByActiveTrue();
     boolean existsByName(String name);
     boolean existsByKey(String key);
-}
\ No newline at end of file
+
+    @Query("SELECT p.id FROM Project p ORDER BY p.id")
+    List<Long> findAllIds();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :projectId")
+    Optional<Project> findForUpdate(@Param("projectId") Long projectId);
+}
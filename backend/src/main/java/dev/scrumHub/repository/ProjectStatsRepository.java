@@ -0,0 +1,52 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.model.ProjectStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface ProjectStatsRepository extends JpaRepository<ProjectStats, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ps FROM ProjectStats ps WHERE ps.projectId = :projectId")
+    Optional<ProjectStats> findForUpdate(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("UPDATE ProjectStats ps SET ps.counters.totalTasks = ps.counters.totalTasks + :total, " +
+            "ps.counters.toDo = ps.counters.toDo + :toDo, " +
+            "ps.counters.inProgress = ps.counters.inProgress + :inProgress, " +
+            "ps.counters.readyForTesting = ps.counters.readyForTesting + :readyForTesting, " +
+            "ps.counters.inTesting = ps.counters.inTesting + :inTesting, " +
+            "ps.counters.bugFound = ps.counters.bugFound + :bugFound, " +
+            "ps.counters.testPassed = ps.counters.testPassed + :testPassed, " +
+            "ps.counters.done = ps.counters.done + :done, " +
+            "ps.updatedAt = :now WHERE ps.projectId = :projectId")
+    int addTaskCounts(@Param("projectId") Long projectId,
+                      @Param("total") long total,
+                      @Param("toDo") long toDo,
+                      @Param("inProgress") long inProgress,
+                      @Param("readyForTesting") long readyForTesting,
+                      @Param("inTesting") long inTesting,
+                      @Param("bugFound") long bugFound,
+                      @Param("testPassed") long testPassed,
+                      @Param("done") long done,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ProjectStats ps SET ps.memberCount = ps.memberCount + :delta, ps.updatedAt = :now " +
+            "WHERE ps.projectId = :projectId")
+    int addMemberCount(@Param("projectId") Long projectId, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ProjectStats ps SET ps.sprintCount = ps.sprintCount + :delta, ps.updatedAt = :now " +
+            "WHERE ps.projectId = :projectId")
+    int addSprintCount(@Param("projectId") Long projectId, @Param("delta") long delta, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,16 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.model.ReleaseProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReleaseProgressRepository extends JpaRepository<ReleaseProgress, Long> {
+
+    @Query("SELECT rp FROM ReleaseProgress rp WHERE rp.projectId = :projectId")
+    List<ReleaseProgress> findByProjectId(@Param("projectId") Long projectId);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,6 +56,12 @@ public interface ReleaseRepository extends JpaRepository<Release, Long> {
     @Query("SELECT r FROM Release r WHERE r.project.id = :projectId AND r.status = 'READY' ORDER BY r.plannedReleaseDate ASC")
     List<Release> findReadyForDeploymentByProjectId(@Param("projectId") Long projectId);
 
+    @Query("SELECT r.id FROM Release r WHERE r.project.id IN :projectIds")
+    List<Long> findIdsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query("SELECT r.id FROM Release r WHERE NOT EXISTS (SELECT 1 FROM ReleaseProgress rp WHERE rp.releaseId = r.id)")
+    List<Long> findIdsWithoutProgress();
+
     @Query("SELECT DISTINCT r FROM Release r LEFT JOIN FETCH r.sprints WHERE r.id = :releaseId")
     Optional<Release> findByIdWithSprints(@Param("releaseId") Long releaseId);
 
@@ -2,17 +2,61 @@ package dev.scrumHub.repository;
 
 import dev.scrumHub.model.Sprint;
 import dev.scrumHub.model.Sprint.SprintStatus;
+import dev.scrumHub.repository.projection.CountView;
+import dev.scrumHub.repository.projection.ReleaseSprintRollupView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SprintRepository extends JpaRepository<Sprint, Long> {
     List<Sprint> findByProjectId(Long projectId);
+    long countByProjectId(Long projectId);
+
+    @Query("SELECT s.id FROM Sprint s WHERE s.status = :status")
+    List<Long> findIdsByStatus(@Param("status") SprintStatus status);
+
+    @Query("SELECT DISTINCT s.release.id FROM Sprint s WHERE s.id IN :sprintIds AND s.release IS NOT NULL")
+    List<Long> findReleaseIdsBySprintIds(@Param("sprintIds") Collection<Long> sprintIds);
+
+    @Query("SELECT s.release.id AS releaseId, COUNT(s) AS totalSprints, " +
+            "SUM(CASE WHEN s.status = :activeStatus THEN 1 ELSE 0 END) AS activeSprints, " +
+            "SUM(CASE WHEN s.status = :completedStatus THEN 1 ELSE 0 END) AS completedSprints, " +
+            "MAX(s.endDate) AS latestEndDate " +
+            "FROM Sprint s WHERE s.release.id IN :releaseIds GROUP BY s.release.id")
+    List<ReleaseSprintRollupView> summarizeByReleaseIds(@Param("releaseIds") Collection<Long> releaseIds,
+                                                        @Param("activeStatus") SprintStatus activeStatus,
+                                                        @Param("completedStatus") SprintStatus completedStatus);
     List<Sprint> findByProjectIdAndStatus(Long projectId, SprintStatus status);
     List<Sprint> findByProjectIdOrderByCreatedAtDesc(Long projectId);
     boolean existsByProjectIdAndName(Long projectId, String name);
     List<Sprint> findByProjectIdAndStatusOrderByStartDateDesc(Long projectId, SprintStatus status);
-}
\ No newline at end of file
+
+    @Query("SELECT s.project.id AS id, COUNT(s) AS count FROM Sprint s " +
+            "WHERE s.project.id IN :projectIds GROUP BY s.project.id")
+    List<CountView> countByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query("SELECT s FROM Sprint s JOIN FETCH s.project " +
+            "WHERE s.project.id IN :projectIds AND s.status = :status ORDER BY s.id")
+    List<Sprint> findWithProjectByProjectIdsAndStatus(@Param("projectIds") Collection<Long> projectIds,
+                                                       @Param("status") SprintStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Sprint s SET s.status = :demotedStatus, s.version = s.version + 1, s.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE s.project.id = :projectId AND s.status = :activeStatus AND s.id <> :sprintId")
+    int deactivateOtherSprints(@Param("projectId") Long projectId,
+                               @Param("sprintId") Long sprintId,
+                               @Param("activeStatus") SprintStatus activeStatus,
+                               @Param("demotedStatus") SprintStatus demotedStatus);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Sprint s SET s.status = :status, s.version = s.version + 1, s.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE s.id = :sprintId AND s.status <> :status")
+    int updateStatus(@Param("sprintId") Long sprintId, @Param("status") SprintStatus status);
+}
@@ -0,0 +1,21 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.model.SprintSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SprintSnapshotRepository extends JpaRepository<SprintSnapshot, Long> {
+
+    List<SprintSnapshot> findBySprintIdOrderBySnapshotDateAsc(Long sprintId);
+
+    @Query("SELECT ss FROM SprintSnapshot ss WHERE ss.sprintId IN :sprintIds AND ss.snapshotDate = :snapshotDate")
+    List<SprintSnapshot> findBySprintIdsAndDate(@Param("sprintIds") Collection<Long> sprintIds,
+                                                @Param("snapshotDate") LocalDate snapshotDate);
+}
@@ -0,0 +1,51 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.model.SprintStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SprintStatsRepository extends JpaRepository<SprintStats, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ss FROM SprintStats ss WHERE ss.sprintId = :sprintId")
+    Optional<SprintStats> findForUpdate(@Param("sprintId") Long sprintId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ss FROM SprintStats ss WHERE ss.projectId = :projectId ORDER BY ss.sprintId")
+    List<SprintStats> findForUpdateByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM SprintStats ss WHERE ss.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("UPDATE SprintStats ss SET ss.counters.totalTasks = ss.counters.totalTasks + :total, " +
+            "ss.counters.toDo = ss.counters.toDo + :toDo, " +
+            "ss.counters.inProgress = ss.counters.inProgress + :inProgress, " +
+            "ss.counters.readyForTesting = ss.counters.readyForTesting + :readyForTesting, " +
+            "ss.counters.inTesting = ss.counters.inTesting + :inTesting, " +
+            "ss.counters.bugFound = ss.counters.bugFound + :bugFound, " +
+            "ss.counters.testPassed = ss.counters.testPassed + :testPassed, " +
+            "ss.counters.done = ss.counters.done + :done, " +
+            "ss.updatedAt = :now WHERE ss.sprintId = :sprintId")
+    int addTaskCounts(@Param("sprintId") Long sprintId,
+                      @Param("total") long total,
+                      @Param("toDo") long toDo,
+                      @Param("inProgress") long inProgress,
+                      @Param("readyForTesting") long readyForTesting,
+                      @Param("inTesting") long inTesting,
+                      @Param("bugFound") long bugFound,
+                      @Param("testPassed") long testPassed,
+                      @Param("done") long done,
+                      @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,21 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.model.SprintVelocity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SprintVelocityRepository extends JpaRepository<SprintVelocity, Long> {
+
+    @Query("SELECT v FROM SprintVelocity v WHERE v.projectId = :projectId ORDER BY v.completedAt DESC, v.sprintId DESC")
+    List<SprintVelocity> findRecentByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    @Query("SELECT s.id FROM Sprint s WHERE s.status = dev.scrumHub.model.Sprint.SprintStatus.COMPLETED " +
+            "AND NOT EXISTS (SELECT 1 FROM SprintVelocity v WHERE v.sprintId = s.id)")
+    List<Long> findCompletedSprintIdsWithoutVelocity();
+}
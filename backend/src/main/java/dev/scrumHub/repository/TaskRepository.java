@@ -4,13 +4,40 @@ import dev.scrumHub.model.Task;
 import dev.scrumHub.model.Task.TaskPriority;
 import dev.scrumHub.model.Task.TaskStatus;
 import dev.scrumHub.model.Task.TaskType;
+import dev.scrumHub.repository.projection.ProgressCountView;
+import dev.scrumHub.repository.projection.ReleaseTaskRollupView;
+import dev.scrumHub.repository.projection.SprintPointsView;
+import dev.scrumHub.repository.projection.SprintRollupView;
+import dev.scrumHub.repository.projection.SprintStatusCountView;
+import dev.scrumHub.repository.projection.SprintWorkView;
+import dev.scrumHub.repository.projection.StatusCountView;
+import dev.scrumHub.repository.projection.TaskTextView;
+import dev.scrumHub.repository.projection.TaskView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+
+    String TASK_VIEW_SELECT = "SELECT t.id AS id, t.title AS title, t.description AS description, " +
+            "t.acceptanceCriteria AS acceptanceCriteria, t.type AS type, t.priority AS priority, t.status AS status, " +
+            "t.estimatedHours AS estimatedHours, t.loggedHours AS loggedHours, t.dueDate AS dueDate, t.tagMask AS tagMask, " +
+            "s.id AS sprintId, s.name AS sprintName, p.id AS projectId, p.name AS projectName, " +
+            "a.id AS assigneeId, a.username AS assigneeUsername, a.email AS assigneeEmail, " +
+            "a.fullName AS assigneeFullName, a.role AS assigneeRole, a.active AS assigneeActive, " +
+            "c.id AS createdById, c.username AS createdByUsername, c.email AS createdByEmail, " +
+            "c.fullName AS createdByFullName, c.role AS createdByRole, c.active AS createdByActive, " +
+            "t.createdAt AS createdAt, t.updatedAt AS updatedAt " +
+            "FROM Task t JOIN t.project p JOIN t.createdBy c LEFT JOIN t.sprint s LEFT JOIN t.assignee a ";
+
     List<Task> findByProjectId(Long projectId);
     List<Task> findBySprintId(Long sprintId);
     List<Task> findByAssigneeId(Long assigneeId);
@@ -28,4 +55,103 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByAssigneeIdAndSprintId(Long assigneeId, Long sprintId);
     List<Task> findBySprintIdAndAssigneeId(Long sprintId, Long assigneeId);
     List<Task> findByProjectIdAndAssigneeId(Long projectId, Long assigneeId);
-}
\ No newline at end of file
+
+    @Query(TASK_VIEW_SELECT + "WHERE t.id = :taskId")
+    Optional<TaskView> findViewById(@Param("taskId") Long taskId);
+
+    @Query(TASK_VIEW_SELECT + "WHERE p.id = :projectId ORDER BY t.createdAt DESC")
+    List<TaskView> findViewsByProjectId(@Param("projectId") Long projectId);
+
+    @Query(TASK_VIEW_SELECT + "WHERE s.id = :sprintId ORDER BY t.priority DESC")
+    List<TaskView> findViewsBySprintId(@Param("sprintId") Long sprintId);
+
+    @Query(TASK_VIEW_SELECT + "WHERE a.id = :assigneeId")
+    List<TaskView> findViewsByAssigneeId(@Param("assigneeId") Long assigneeId);
+
+    @Query(TASK_VIEW_SELECT + "WHERE s.id = :sprintId AND a.id = :assigneeId")
+    List<TaskView> findViewsBySprintIdAndAssigneeId(@Param("sprintId") Long sprintId, @Param("assigneeId") Long assigneeId);
+
+    @Query(TASK_VIEW_SELECT + "WHERE s IS NULL AND a.id = :assigneeId")
+    List<TaskView> findViewsWithoutSprintByAssigneeId(@Param("assigneeId") Long assigneeId);
+
+    @Query(TASK_VIEW_SELECT + "WHERE p.id = :projectId AND a.id = :assigneeId")
+    List<TaskView> findViewsByProjectIdAndAssigneeId(@Param("projectId") Long projectId, @Param("assigneeId") Long assigneeId);
+
+    @Query(TASK_VIEW_SELECT + "WHERE p.id = :projectId AND t.status = :status")
+    List<TaskView> findViewsByProjectIdAndStatus(@Param("projectId") Long projectId, @Param("status") TaskStatus status);
+
+    @Query(TASK_VIEW_SELECT + "WHERE p.id IN :projectIds ORDER BY t.createdAt DESC")
+    List<TaskView> findViewsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query(TASK_VIEW_SELECT + "WHERE p.id IN :projectIds AND t.status = :status ORDER BY t.createdAt DESC")
+    List<TaskView> findViewsByProjectIdsAndStatus(@Param("projectIds") Collection<Long> projectIds, @Param("status") TaskStatus status);
+
+    @Query("SELECT t.project.id AS projectId, t.status AS status, COUNT(t) AS count FROM Task t " +
+            "WHERE t.project.id IN :projectIds GROUP BY t.project.id, t.status")
+    List<StatusCountView> countStatusesByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query("SELECT t.project.id AS id, COUNT(t) AS total, " +
+            "SUM(CASE WHEN t.status = :doneStatus THEN 1 ELSE 0 END) AS done FROM Task t " +
+            "WHERE t.project.id IN :projectIds GROUP BY t.project.id")
+    List<ProgressCountView> countProgressByProjectIds(@Param("projectIds") Collection<Long> projectIds,
+                                                      @Param("doneStatus") TaskStatus doneStatus);
+
+    @Query("SELECT t.sprint.id AS id, COUNT(t) AS total, " +
+            "SUM(CASE WHEN t.status = :doneStatus THEN 1 ELSE 0 END) AS done FROM Task t " +
+            "WHERE t.sprint.id IN :sprintIds GROUP BY t.sprint.id")
+    List<ProgressCountView> countProgressBySprintIds(@Param("sprintIds") Collection<Long> sprintIds,
+                                                     @Param("doneStatus") TaskStatus doneStatus);
+
+    @Query("SELECT t.project.id AS projectId, t.status AS status, COUNT(t) AS count FROM Task t " +
+            "WHERE t.project.id = :projectId GROUP BY t.project.id, t.status")
+    List<StatusCountView> countStatusesByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT t.sprint.id AS sprintId, t.status AS status, COUNT(t) AS count, " +
+            "COALESCE(SUM(pbi.storyPoints), 0) AS storyPoints FROM Task t " +
+            "LEFT JOIN ProductBacklogItem pbi ON pbi.relatedTask = t " +
+            "WHERE t.sprint.id IN :sprintIds GROUP BY t.sprint.id, t.status")
+    List<SprintRollupView> findSprintRollups(@Param("sprintIds") Collection<Long> sprintIds);
+
+    @Query("SELECT t.sprint.id AS sprintId, COUNT(t) AS totalTasks, " +
+            "SUM(CASE WHEN t.status = :doneStatus THEN 1 ELSE 0 END) AS completedTasks, " +
+            "COALESCE(SUM(t.estimatedHours), 0) AS totalHours, " +
+            "COALESCE(SUM(CASE WHEN t.status = :doneStatus THEN t.estimatedHours ELSE 0 END), 0) AS completedHours " +
+            "FROM Task t WHERE t.sprint.id IN :sprintIds GROUP BY t.sprint.id")
+    List<SprintWorkView> sumWorkBySprintIds(@Param("sprintIds") Collection<Long> sprintIds,
+                                            @Param("doneStatus") TaskStatus doneStatus);
+
+    @Query("SELECT t.sprint.id AS sprintId, COALESCE(SUM(pbi.storyPoints), 0) AS storyPoints FROM Task t " +
+            "JOIN ProductBacklogItem pbi ON pbi.relatedTask = t " +
+            "WHERE t.sprint.id IN :sprintIds AND t.status = :status GROUP BY t.sprint.id")
+    List<SprintPointsView> sumStoryPointsBySprintIds(@Param("sprintIds") Collection<Long> sprintIds,
+                                                    @Param("status") TaskStatus status);
+
+    @Query("SELECT s.release.id AS releaseId, COUNT(DISTINCT t) AS totalTasks, " +
+            "COUNT(DISTINCT CASE WHEN t.status = :doneStatus THEN t.id END) AS completedTasks, " +
+            "COALESCE(SUM(pbi.storyPoints), 0) AS totalStoryPoints, " +
+            "COALESCE(SUM(CASE WHEN t.status = :doneStatus THEN pbi.storyPoints ELSE 0 END), 0) AS completedStoryPoints " +
+            "FROM Task t JOIN t.sprint s LEFT JOIN ProductBacklogItem pbi ON pbi.relatedTask = t " +
+            "WHERE s.release.id IN :releaseIds GROUP BY s.release.id")
+    List<ReleaseTaskRollupView> summarizeByReleaseIds(@Param("releaseIds") Collection<Long> releaseIds,
+                                                      @Param("doneStatus") TaskStatus doneStatus);
+
+    @Query("SELECT t.sprint.id AS sprintId, t.status AS status, COUNT(t) AS count FROM Task t " +
+            "WHERE t.project.id = :projectId AND t.sprint IS NOT NULL GROUP BY t.sprint.id, t.status")
+    List<SprintStatusCountView> countSprintStatusesByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT t.project.id AS projectId, t.status AS status, COUNT(t) AS count FROM Task t " +
+            "WHERE t.assignee.id = :assigneeId GROUP BY t.project.id, t.status")
+    List<StatusCountView> countStatusesByAssigneeId(@Param("assigneeId") Long assigneeId);
+
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description FROM Task t " +
+            "WHERE t.tagMask IS NULL AND t.id > :afterId ORDER BY t.id")
+    List<TaskTextView> findUnclassifiedTexts(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.tagMask = :tagMask WHERE t.id IN :ids")
+    int updateTagMask(@Param("ids") Collection<Long> ids, @Param("tagMask") Long tagMask);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.tagMask = NULL")
+    int clearTagMasks();
+}
@@ -0,0 +1,19 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.repository.projection.TaskView;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+
+    List<TaskView> findViewPage(TaskViewFilter filter, Pageable pageable);
+
+    List<TaskView> findViewsByPriority(TaskViewFilter filter);
+
+    Stream<TaskView> streamViews(TaskViewFilter filter);
+
+    List<TaskView> findViewChanges(Long projectId, Long sprintId, LocalDateTime sinceUpdatedAt, Long sinceId, int limit);
+}
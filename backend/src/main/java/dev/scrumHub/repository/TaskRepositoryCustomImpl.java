@@ -0,0 +1,145 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.repository.projection.TaskView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final String KEYSET_ORDER = " ORDER BY t.createdAt DESC, t.id DESC";
+    private static final String PRIORITY_ORDER = " ORDER BY t.priority DESC, t.createdAt DESC, t.id DESC";
+    private static final String CHANGES_ORDER = " ORDER BY t.updatedAt ASC, t.id ASC";
+
+    private final EntityManager entityManager;
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    public TaskRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<TaskView> findViewPage(TaskViewFilter filter, Pageable pageable) {
+        TypedQuery<Tuple> query = createQuery(filter, KEYSET_ORDER);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultList().stream().map(this::toView).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TaskView> findViewsByPriority(TaskViewFilter filter) {
+        return createQuery(filter, PRIORITY_ORDER).getResultList().stream()
+                .map(this::toView)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<TaskView> streamViews(TaskViewFilter filter) {
+        TypedQuery<Tuple> query = createQuery(filter, KEYSET_ORDER);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, 500);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultStream().map(this::toView);
+    }
+
+    @Override
+    public List<TaskView> findViewChanges(Long projectId, Long sprintId, LocalDateTime sinceUpdatedAt, Long sinceId, int limit) {
+        List<String> predicates = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (projectId != null) {
+            predicates.add("t.project.id = :projectId");
+            parameters.put("projectId", projectId);
+        }
+        if (sprintId != null) {
+            predicates.add("t.sprint.id = :sprintId");
+            parameters.put("sprintId", sprintId);
+        }
+        if (sinceUpdatedAt != null) {
+            predicates.add("t.updatedAt >= :sinceUpdatedAt " +
+                    "AND (t.updatedAt > :sinceUpdatedAt OR t.id > :sinceId)");
+            parameters.put("sinceUpdatedAt", sinceUpdatedAt);
+            parameters.put("sinceId", sinceId != null ? sinceId : 0L);
+        }
+
+        TypedQuery<Tuple> query = buildQuery(predicates, parameters, CHANGES_ORDER);
+        query.setMaxResults(limit);
+        return query.getResultList().stream().map(this::toView).collect(Collectors.toList());
+    }
+
+    private TypedQuery<Tuple> createQuery(TaskViewFilter filter, String orderBy) {
+        List<String> predicates = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (filter.projectIds() != null) {
+            predicates.add("t.project.id IN :projectIds");
+            parameters.put("projectIds", filter.projectIds());
+        }
+        if (filter.projectId() != null) {
+            predicates.add("t.project.id = :projectId");
+            parameters.put("projectId", filter.projectId());
+        }
+        if (filter.sprintId() != null) {
+            predicates.add("t.sprint.id = :sprintId");
+            parameters.put("sprintId", filter.sprintId());
+        }
+        if (filter.assigneeId() != null) {
+            predicates.add("t.assignee.id = :assigneeId");
+            parameters.put("assigneeId", filter.assigneeId());
+        }
+        if (filter.status() != null) {
+            predicates.add("t.status = :status");
+            parameters.put("status", filter.status());
+        }
+        if (filter.type() != null) {
+            predicates.add("t.type = :type");
+            parameters.put("type", filter.type());
+        }
+        if (filter.priority() != null) {
+            predicates.add("t.priority = :priority");
+            parameters.put("priority", filter.priority());
+        }
+        if (filter.cursorCreatedAt() != null) {
+            predicates.add("t.createdAt <= :cursorCreatedAt " +
+                    "AND (t.createdAt < :cursorCreatedAt OR t.id < :cursorId)");
+            parameters.put("cursorCreatedAt", filter.cursorCreatedAt());
+            parameters.put("cursorId", filter.cursorId());
+        }
+
+        return buildQuery(predicates, parameters, orderBy);
+    }
+
+    private TypedQuery<Tuple> buildQuery(List<String> predicates, Map<String, Object> parameters, String orderBy) {
+        StringBuilder jpql = new StringBuilder(TaskRepository.TASK_VIEW_SELECT);
+        if (!predicates.isEmpty()) {
+            jpql.append("WHERE ").append(String.join(" AND ", predicates));
+        }
+        jpql.append(orderBy);
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    private TaskView toView(Tuple tuple) {
+        Map<String, Object> row = new HashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            row.put(element.getAlias(), tuple.get(element));
+        }
+        return projectionFactory.createProjection(TaskView.class, row);
+    }
+}
@@ -0,0 +1,30 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.model.TaskTombstone;
+import dev.scrumHub.repository.projection.DeletionCountView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long>, TaskTombstoneRepositoryCustom {
+
+    @Query("SELECT COALESCE(MAX(tt.id), 0) FROM TaskTombstone tt WHERE tt.deletedAt <= :settledAt")
+    Long findMaxSettledId(@Param("settledAt") LocalDateTime settledAt);
+
+    @Query("SELECT tt.projectId AS scopeId, CAST(tt.deletedAt AS LocalDate) AS day, COUNT(tt) AS count " +
+            "FROM TaskTombstone tt WHERE tt.deletedAt >= :since " +
+            "GROUP BY tt.projectId, CAST(tt.deletedAt AS LocalDate)")
+    List<DeletionCountView> countProjectDeletionsSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT tt.sprintId AS scopeId, CAST(tt.deletedAt AS LocalDate) AS day, COUNT(tt) AS count " +
+            "FROM TaskTombstone tt WHERE tt.sprintId IN :sprintIds AND tt.deletedAt >= :since " +
+            "GROUP BY tt.sprintId, CAST(tt.deletedAt AS LocalDate)")
+    List<DeletionCountView> countSprintDeletionsSince(@Param("sprintIds") Collection<Long> sprintIds,
+                                                      @Param("since") LocalDateTime since);
+}
@@ -0,0 +1,10 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.model.TaskTombstone;
+
+import java.util.List;
+
+public interface TaskTombstoneRepositoryCustom {
+
+    List<TaskTombstone> findChanges(Long afterId, Long projectId, Long sprintId, int limit);
+}
@@ -0,0 +1,42 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.model.TaskTombstone;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TaskTombstoneRepositoryCustomImpl implements TaskTombstoneRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    public TaskTombstoneRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<TaskTombstone> findChanges(Long afterId, Long projectId, Long sprintId, int limit) {
+        List<String> predicates = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+
+        predicates.add("tt.id > :afterId");
+        parameters.put("afterId", afterId);
+        if (projectId != null) {
+            predicates.add("tt.projectId = :projectId");
+            parameters.put("projectId", projectId);
+        }
+        if (sprintId != null) {
+            predicates.add("tt.sprintId = :sprintId");
+            parameters.put("sprintId", sprintId);
+        }
+
+        String jpql = "SELECT tt FROM TaskTombstone tt WHERE " + String.join(" AND ", predicates) + " ORDER BY tt.id";
+        TypedQuery<TaskTombstone> query = entityManager.createQuery(jpql, TaskTombstone.class);
+        parameters.forEach(query::setParameter);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+}
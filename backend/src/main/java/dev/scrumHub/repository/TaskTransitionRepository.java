@@ -0,0 +1,29 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.model.TaskTransition;
+import dev.scrumHub.repository.projection.TransitionCountView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskTransitionRepository extends JpaRepository<TaskTransition, Long> {
+
+    @Query("SELECT t.projectId AS scopeId, CAST(t.transitionedAt AS LocalDate) AS day, " +
+            "t.fromStatus AS fromStatus, t.toStatus AS toStatus, COUNT(t) AS count " +
+            "FROM TaskTransition t WHERE t.transitionedAt >= :since " +
+            "GROUP BY t.projectId, CAST(t.transitionedAt AS LocalDate), t.fromStatus, t.toStatus")
+    List<TransitionCountView> countProjectTransitionsSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT t.sprintId AS scopeId, CAST(t.transitionedAt AS LocalDate) AS day, " +
+            "t.fromStatus AS fromStatus, t.toStatus AS toStatus, COUNT(t) AS count " +
+            "FROM TaskTransition t WHERE t.sprintId IN :sprintIds AND t.transitionedAt >= :since " +
+            "GROUP BY t.sprintId, CAST(t.transitionedAt AS LocalDate), t.fromStatus, t.toStatus")
+    List<TransitionCountView> countSprintTransitionsSince(@Param("sprintIds") Collection<Long> sprintIds,
+                                                          @Param("since") LocalDateTime since);
+}
@@ -0,0 +1,13 @@
+package dev.scrumHub.repository;
+
+import dev.scrumHub.model.Task.TaskPriority;
+import dev.scrumHub.model.Task.TaskStatus;
+import dev.scrumHub.model.Task.TaskType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public record TaskViewFilter(Long projectId, Collection<Long> projectIds, Long sprintId, Long assigneeId,
+                             TaskStatus status, TaskType type, TaskPriority priority,
+                             LocalDateTime cursorCreatedAt, Long cursorId) {
+}
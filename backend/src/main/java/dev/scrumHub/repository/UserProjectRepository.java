@@ -2,11 +2,13 @@ package dev.scrumHub.repository;
 
 import dev.scrumHub.model.UserProject;
 import dev.scrumHub.model.UserProjectId;
+import dev.scrumHub.repository.projection.CountView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,12 +18,25 @@ public interface UserProjectRepository extends JpaRepository<UserProject, UserPr
 
     List<UserProject> findByProjectId(Long projectId);
 
+    @Query("SELECT up.project.id FROM UserProject up WHERE up.user.id = :userId")
+    List<Long> findProjectIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT up FROM UserProject up JOIN FETCH up.project WHERE up.user.id = :userId")
+    List<UserProject> findWithProjectByUserId(@Param("userId") Long userId);
+
     @Query("SELECT COUNT(up) FROM UserProject up WHERE up.project.id = :projectId AND up.isActive = true")
     long countByProjectId(@Param("projectId") Long projectId);
 
     @Query("SELECT up FROM UserProject up WHERE up.user.id = :userId AND up.isActive = true")
     List<UserProject> findActiveByUserId(@Param("userId") Long userId);
 
+    @Query("SELECT up FROM UserProject up JOIN FETCH up.project WHERE up.user.id = :userId AND up.isActive = true")
+    List<UserProject> findActiveWithProjectByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT up.project.id AS id, COUNT(up) AS count FROM UserProject up " +
+            "WHERE up.project.id IN :projectIds AND up.isActive = true GROUP BY up.project.id")
+    List<CountView> countActiveByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
     @Query("SELECT up FROM UserProject up WHERE up.project.id = :projectId AND up.isActive = true")
     List<UserProject> findActiveByProjectId(@Param("projectId") Long projectId);
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package dev.scrumHub.repository.projection;
+
+public interface CountView {
+    Long getId();
+    Long getCount();
+}
@@ -0,0 +1,9 @@
+package dev.scrumHub.repository.projection;
+
+import java.time.LocalDate;
+
+public interface DeletionCountView {
+    Long getScopeId();
+    LocalDate getDay();
+    Long getCount();
+}
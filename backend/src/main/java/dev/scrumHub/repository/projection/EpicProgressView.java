@@ -0,0 +1,9 @@
+package dev.scrumHub.repository.projection;
+
+public interface EpicProgressView {
+    Long getEpicId();
+    Long getTotalItems();
+    Long getDoneItems();
+    Long getTotalStoryPoints();
+    Long getCompletedStoryPoints();
+}
@@ -0,0 +1,7 @@
+package dev.scrumHub.repository.projection;
+
+public interface ProgressCountView {
+    Long getId();
+    Long getTotal();
+    Long getDone();
+}
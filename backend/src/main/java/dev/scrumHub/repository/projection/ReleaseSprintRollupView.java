@@ -0,0 +1,11 @@
+package dev.scrumHub.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface ReleaseSprintRollupView {
+    Long getReleaseId();
+    Long getTotalSprints();
+    Long getActiveSprints();
+    Long getCompletedSprints();
+    LocalDateTime getLatestEndDate();
+}
@@ -0,0 +1,9 @@
+package dev.scrumHub.repository.projection;
+
+public interface ReleaseTaskRollupView {
+    Long getReleaseId();
+    Long getTotalTasks();
+    Long getCompletedTasks();
+    Long getTotalStoryPoints();
+    Long getCompletedStoryPoints();
+}
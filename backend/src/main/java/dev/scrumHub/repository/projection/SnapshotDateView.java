@@ -0,0 +1,8 @@
+package dev.scrumHub.repository.projection;
+
+import java.time.LocalDate;
+
+public interface SnapshotDateView {
+    Long getScopeId();
+    LocalDate getSnapshotDate();
+}
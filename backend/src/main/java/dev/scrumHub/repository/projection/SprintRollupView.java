@@ -0,0 +1,10 @@
+package dev.scrumHub.repository.projection;
+
+import dev.scrumHub.model.Task.TaskStatus;
+
+public interface SprintRollupView {
+    Long getSprintId();
+    TaskStatus getStatus();
+    Long getCount();
+    Long getStoryPoints();
+}
@@ -0,0 +1,9 @@
+package dev.scrumHub.repository.projection;
+
+public interface SprintWorkView {
+    Long getSprintId();
+    Long getTotalTasks();
+    Long getCompletedTasks();
+    Long getTotalHours();
+    Long getCompletedHours();
+}
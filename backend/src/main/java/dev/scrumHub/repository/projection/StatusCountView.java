@@ -0,0 +1,9 @@
+package dev.scrumHub.repository.projection;
+
+import dev.scrumHub.model.Task.TaskStatus;
+
+public interface StatusCountView {
+    Long getProjectId();
+    TaskStatus getStatus();
+    Long getCount();
+}
@@ -0,0 +1,7 @@
+package dev.scrumHub.repository.projection;
+
+public interface TaskTextView {
+    Long getId();
+    String getTitle();
+    String getDescription();
+}
@@ -0,0 +1,40 @@
+package dev.scrumHub.repository.projection;
+
+import dev.scrumHub.model.Task.TaskPriority;
+import dev.scrumHub.model.Task.TaskStatus;
+import dev.scrumHub.model.Task.TaskType;
+import dev.scrumHub.model.User.UserRole;
+
+import java.time.LocalDateTime;
+
+public interface TaskView {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    String getAcceptanceCriteria();
+    TaskType getType();
+    TaskPriority getPriority();
+    TaskStatus getStatus();
+    Integer getEstimatedHours();
+    Integer getLoggedHours();
+    LocalDateTime getDueDate();
+    Long getTagMask();
+    Long getSprintId();
+    String getSprintName();
+    Long getProjectId();
+    String getProjectName();
+    Long getAssigneeId();
+    String getAssigneeUsername();
+    String getAssigneeEmail();
+    String getAssigneeFullName();
+    UserRole getAssigneeRole();
+    Boolean getAssigneeActive();
+    Long getCreatedById();
+    String getCreatedByUsername();
+    String getCreatedByEmail();
+    String getCreatedByFullName();
+    UserRole getCreatedByRole();
+    Boolean getCreatedByActive();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
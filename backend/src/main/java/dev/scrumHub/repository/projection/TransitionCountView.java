@@ -0,0 +1,13 @@
+package dev.scrumHub.repository.projection;
+
+import dev.scrumHub.model.Task.TaskStatus;
+
+import java.time.LocalDate;
+
+public interface TransitionCountView {
+    Long getScopeId();
+    LocalDate getDay();
+    TaskStatus getFromStatus();
+    TaskStatus getToStatus();
+    Long getCount();
+}
@@ -0,0 +1,93 @@
+package dev.scrumHub.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BacklogRank {
+
+    public static final int MAX_LENGTH = 24;
+
+    private static final int BASE = 36;
+    private static final int MIN_WIDTH = 4;
+    private static final int MAX_APPEND_WIDTH = 12;
+    private static final long MIN_GAP = (long) BASE * BASE;
+
+    private BacklogRank() {
+    }
+
+    public static String between(String lower, String upper) {
+        String low = lower != null ? lower : "";
+        if (upper != null && low.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Lower rank must sort before upper rank");
+        }
+        if (upper != null && upper.startsWith(low) && upper.substring(low.length()).chars().allMatch(c -> c == '0')) {
+            return null;
+        }
+
+        StringBuilder rank = new StringBuilder();
+        boolean bounded = upper != null;
+        for (int i = 0; ; i++) {
+            int lowDigit = i < low.length() ? Character.digit(low.charAt(i), BASE) : 0;
+            int highDigit = bounded ? (i < upper.length() ? Character.digit(upper.charAt(i), BASE) : 0) : BASE;
+
+            if (lowDigit == highDigit) {
+                rank.append(Character.forDigit(lowDigit, BASE));
+                continue;
+            }
+
+            int mid = (lowDigit + highDigit) / 2;
+            if (mid > lowDigit) {
+                return rank.append(Character.forDigit(mid, BASE)).toString();
+            }
+            rank.append(Character.forDigit(lowDigit, BASE));
+            bounded = false;
+        }
+    }
+
+    // Appends a fixed-width step after the given rank, using the shortest width that still has room above it.
+    public static String after(String lower) {
+        if (lower == null) {
+            return evenlySpaced(1).get(0);
+        }
+        for (int width = MIN_WIDTH; width <= MAX_APPEND_WIDTH; width++) {
+            String prefix = lower.length() > width ? lower.substring(0, width) : lower;
+            long next = (parse(prefix, width) / MIN_GAP + 1) * MIN_GAP;
+            if (next < pow(width)) {
+                return format(next, width);
+            }
+        }
+        return null;
+    }
+
+    // Spreads ranks over the lower half of the key space so appends have headroom before keys must grow.
+    public static List<String> evenlySpaced(int count) {
+        int width = MIN_WIDTH;
+        while (pow(width) / (2 * (count + 1L)) < MIN_GAP) {
+            width++;
+        }
+        long step = pow(width) / (2 * (count + 1L));
+
+        List<String> ranks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            ranks.add(format(step * i, width));
+        }
+        return ranks;
+    }
+
+    private static long parse(String rank, int width) {
+        return Long.parseLong(rank + "0".repeat(width - rank.length()), BASE);
+    }
+
+    private static String format(long value, int width) {
+        String digits = Long.toString(value, BASE);
+        return ("0".repeat(width - digits.length()) + digits).replaceAll("0+$", "");
+    }
+
+    private static long pow(int width) {
+        long value = 1;
+        for (int i = 0; i < width; i++) {
+            value *= BASE;
+        }
+        return value;
+    }
+}
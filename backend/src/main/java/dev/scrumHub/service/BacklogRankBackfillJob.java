@@ -0,0 +1,26 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.repository.ProductBacklogItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BacklogRankBackfillJob {
+
+    private final ProductBacklogItemRepository backlogItemRepository;
+    private final ProductBacklogService productBacklogService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        for (Long projectId : backlogItemRepository.findProjectIdsWithUnrankedItems()) {
+            try {
+                productBacklogService.rebalanceRanks(projectId);
+            } catch (RuntimeException e) {
+                System.err.println("Warning: Backlog rank backfill failed for project " + projectId + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package dev.scrumHub.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+public class BoardCache {
+
+    private final Map<Long, Long> projectVersions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> sprintVersions = new ConcurrentHashMap<>();
+    private final Map<Key, Snapshot> snapshots;
+    private final long maxAgeMillis;
+
+    public BoardCache(@Value("${app.board-cache.max-entries:500}") int maxEntries,
+                      @Value("${app.board-cache.max-age-seconds:300}") long maxAgeSeconds) {
+        this.maxAgeMillis = maxAgeSeconds * 1000;
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Snapshot> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public record Key(String view, Long projectId, Long sprintId, Long userId, String variant) {
+    }
+
+    private record Snapshot(long projectVersion, long sprintVersion, long createdAt, Object value) {
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key, Supplier<T> loader) {
+        long projectVersion = versionOf(projectVersions, key.projectId());
+        long sprintVersion = versionOf(sprintVersions, key.sprintId());
+
+        Snapshot snapshot;
+        synchronized (snapshots) {
+            snapshot = snapshots.get(key);
+        }
+        if (snapshot != null
+                && snapshot.projectVersion() == projectVersion
+                && snapshot.sprintVersion() == sprintVersion
+                && System.currentTimeMillis() - snapshot.createdAt() < maxAgeMillis) {
+            return (T) snapshot.value();
+        }
+
+        T value = freeze(loader.get());
+        synchronized (snapshots) {
+            snapshots.put(key, new Snapshot(projectVersion, sprintVersion, System.currentTimeMillis(), value));
+        }
+        return value;
+    }
+
+    public void invalidate(Long projectId, Long... sprintIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpVersions(projectId, sprintIds);
+                }
+            });
+        } else {
+            bumpVersions(projectId, sprintIds);
+        }
+    }
+
+    public void clear() {
+        synchronized (snapshots) {
+            snapshots.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T freeze(T value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, entry) -> copy.put(key, freeze(entry)));
+            return (T) Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(entry -> copy.add(freeze(entry)));
+            return (T) Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+
+    private void bumpVersions(Long projectId, Long... sprintIds) {
+        if (projectId != null) {
+            projectVersions.merge(projectId, 1L, Long::sum);
+        }
+        for (Long sprintId : sprintIds) {
+            if (sprintId != null) {
+                sprintVersions.merge(sprintId, 1L, Long::sum);
+            }
+        }
+    }
+
+    private static long versionOf(Map<Long, Long> versions, Long id) {
+        return id == null ? 0L : Objects.requireNonNullElse(versions.get(id), 0L);
+    }
+}
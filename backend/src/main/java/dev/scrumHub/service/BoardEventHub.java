@@ -0,0 +1,248 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.dto.TaskResponseDto;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+@Component
+public class BoardEventHub {
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final ExecutorService loaderExecutor;
+    private final ExecutorService deliveryExecutor;
+    private final ScheduledExecutorService heartbeatScheduler;
+
+    public BoardEventHub(@Value("${app.board-stream.buffer-size:64}") int bufferSize,
+                         @Value("${app.board-stream.heartbeat-seconds:25}") long heartbeatSeconds,
+                         @Value("${app.board-stream.timeout-minutes:30}") long timeoutMinutes,
+                         @Value("${app.board-stream.delivery-threads:2}") int loaderThreads,
+                         @Value("${app.board-stream.loader-queue-size:256}") int loaderQueueSize,
+                         @Value("${app.board-stream.send-timeout-seconds:10}") long sendTimeoutSeconds) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+        this.sendTimeoutNanos = TimeUnit.SECONDS.toNanos(sendTimeoutSeconds);
+        // When the loader queue is full the committing request thread runs the load itself instead of queueing more.
+        this.loaderExecutor = new ThreadPoolExecutor(loaderThreads, loaderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(loaderQueueSize), daemonThreads("board-stream-loader"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        // Virtual threads keep a stalled subscriber from pinning a platform thread while its send blocks.
+        this.deliveryExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("board-stream-delivery-", 0).factory());
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("board-stream-heartbeat"));
+        this.heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        long sweepMillis = Math.max(1000, TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos) / 2);
+        this.heartbeatScheduler.scheduleAtFixedRate(this::evictStalledSubscribers, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(Long projectId) {
+        if (projectId == null) {
+            throw new RuntimeException("projectId is required");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(projectId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribers.compute(projectId, (id, projectSubscribers) -> {
+            Set<Subscriber> set = projectSubscribers == null ? ConcurrentHashMap.newKeySet() : projectSubscribers;
+            set.add(subscriber);
+            return set;
+        });
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        subscriber.offer(payload(SseEmitter.event().name("connected").data(projectId)));
+        return emitter;
+    }
+
+    public void taskChanged(Long projectId, Supplier<TaskResponseDto> loader) {
+        afterCommit(() -> {
+            if (hasSubscribers(projectId)) {
+                loaderExecutor.execute(() -> {
+                    TaskResponseDto task = loader.get();
+                    if (task != null) {
+                        broadcast(projectId, SseEmitter.event().name("task-updated").data(task));
+                    }
+                });
+            }
+        });
+    }
+
+    public void taskDeleted(Long projectId, Long taskId) {
+        afterCommit(() -> {
+            if (hasSubscribers(projectId)) {
+                broadcast(projectId, SseEmitter.event().name("task-deleted").data(Map.of("id", taskId)));
+            }
+        });
+    }
+
+    public int getSubscriberCount(Long projectId) {
+        Set<Subscriber> projectSubscribers = subscribers.get(projectId);
+        return projectSubscribers == null ? 0 : projectSubscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        loaderExecutor.shutdownNow();
+        deliveryExecutor.shutdownNow();
+        subscribers.values().forEach(projectSubscribers -> projectSubscribers.forEach(s -> s.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private boolean hasSubscribers(Long projectId) {
+        Set<Subscriber> projectSubscribers = subscribers.get(projectId);
+        return projectSubscribers != null && !projectSubscribers.isEmpty();
+    }
+
+    private void broadcast(Long projectId, SseEmitter.SseEventBuilder event) {
+        Set<Subscriber> projectSubscribers = subscribers.get(projectId);
+        if (projectSubscribers != null) {
+            Set<DataWithMediaType> payload = payload(event);
+            projectSubscribers.forEach(subscriber -> subscriber.offer(payload));
+        }
+    }
+
+    private void sendHeartbeats() {
+        Set<DataWithMediaType> heartbeat = payload(SseEmitter.event().comment("heartbeat"));
+        subscribers.values().forEach(projectSubscribers ->
+                projectSubscribers.forEach(subscriber -> subscriber.offer(heartbeat)));
+    }
+
+    private static Set<DataWithMediaType> payload(SseEmitter.SseEventBuilder event) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(event.build()));
+    }
+
+    private void evictStalledSubscribers() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(projectSubscribers -> projectSubscribers.forEach(subscriber -> {
+            long startedAt = subscriber.sendStartedAt;
+            if (startedAt != 0 && now - startedAt > sendTimeoutNanos) {
+                subscriber.evict();
+            }
+        }));
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.projectId, (id, projectSubscribers) -> {
+            projectSubscribers.remove(subscriber);
+            return projectSubscribers.isEmpty() ? null : projectSubscribers;
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class Subscriber {
+        private final Long projectId;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean evicted = new AtomicBoolean();
+        private volatile long sendStartedAt;
+        private volatile Thread sender;
+
+        private Subscriber(Long projectId, SseEmitter emitter, Queue<Set<DataWithMediaType>> buffer) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        private void offer(Set<DataWithMediaType> event) {
+            if (evicted.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                evict();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    deliveryExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            Thread.interrupted();
+            sender = Thread.currentThread();
+            try {
+                Set<DataWithMediaType> event;
+                while (!evicted.get() && (event = buffer.poll()) != null) {
+                    sendStartedAt = System.nanoTime();
+                    emitter.send(event);
+                    sendStartedAt = 0;
+                }
+            } catch (IOException | RuntimeException e) {
+                evict();
+                return;
+            } finally {
+                sender = null;
+                sendStartedAt = 0;
+                draining.set(false);
+                Thread.interrupted();
+            }
+            if (!evicted.get() && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void evict() {
+            if (!evicted.compareAndSet(false, true)) {
+                return;
+            }
+            remove(this);
+            buffer.clear();
+            Thread stalledSender = sender;
+            if (stalledSender != null) {
+                stalledSender.interrupt();
+            }
+            try {
+                deliveryExecutor.execute(emitter::complete);
+            } catch (RejectedExecutionException e) {
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.dto.BoardGroupingDto;
+import dev.scrumHub.dto.TaskResponseDto;
+import dev.scrumHub.model.Task.TaskPriority;
+import dev.scrumHub.model.Task.TaskStatus;
+import dev.scrumHub.model.Task.TaskType;
+import dev.scrumHub.repository.projection.TaskView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+@Component
+@RequiredArgsConstructor
+public class BoardGroupingEngine {
+
+    private static final String UNASSIGNED_KEY = "unassigned";
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final TaskType[] TYPES = TaskType.values();
+
+    private final TaskService taskService;
+
+    public enum Dimension {
+        STATUS, ASSIGNEE, PRIORITY, TYPE;
+
+        public static List<Dimension> parse(String groupBy) {
+            List<Dimension> dimensions = new ArrayList<>();
+            if (groupBy == null || groupBy.trim().isEmpty()) {
+                dimensions.add(STATUS);
+                return dimensions;
+            }
+
+            for (String part : groupBy.split(",")) {
+                String name = part.trim();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                Dimension dimension;
+                try {
+                    dimension = Dimension.valueOf(name.toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    throw new RuntimeException("Invalid groupBy dimension: " + name + ". Valid values are: status, assignee, priority, type");
+                }
+                if (dimensions.contains(dimension)) {
+                    throw new RuntimeException("Duplicate groupBy dimension: " + name);
+                }
+                dimensions.add(dimension);
+            }
+
+            if (dimensions.isEmpty()) {
+                dimensions.add(STATUS);
+            }
+            return dimensions;
+        }
+    }
+
+    public Grouping group(List<TaskView> tasks, Dimension... dimensions) {
+        return group(tasks, Arrays.asList(dimensions));
+    }
+
+    public Grouping group(List<TaskView> tasks, List<Dimension> dimensions) {
+        Grouping grouping = new Grouping(dimensions);
+        for (TaskView task : tasks) {
+            grouping.add(task, taskService.convertToDto(task));
+        }
+        return grouping;
+    }
+
+    public static final class Grouping {
+        private final List<Dimension> dimensions;
+        private final Bucket root = new Bucket();
+        private final int[] statusCounts = new int[STATUSES.length];
+        private final int[] priorityCounts = new int[PRIORITIES.length];
+        private final int[] typeCounts = new int[TYPES.length];
+        private final Map<Long, int[]> assigneeCounts = new LinkedHashMap<>();
+        private final Map<Long, String> assigneeNames = new HashMap<>();
+        private int totalTasks;
+        private int unassignedTasks;
+
+        private Grouping(List<Dimension> dimensions) {
+            this.dimensions = List.copyOf(dimensions);
+        }
+
+        private void add(TaskView task, TaskResponseDto dto) {
+            totalTasks++;
+            statusCounts[task.getStatus().ordinal()]++;
+            priorityCounts[task.getPriority().ordinal()]++;
+            typeCounts[task.getType().ordinal()]++;
+
+            Long assigneeId = task.getAssigneeId();
+            if (assigneeId == null) {
+                unassignedTasks++;
+            } else {
+                assigneeCounts.computeIfAbsent(assigneeId, id -> new int[1])[0]++;
+                assigneeNames.putIfAbsent(assigneeId, task.getAssigneeFullName());
+            }
+
+            Bucket bucket = root;
+            for (Dimension dimension : dimensions) {
+                bucket = bucket.child(dimension, task);
+            }
+            bucket.tasks.add(dto);
+        }
+
+        public int getTotalTasks() {
+            return totalTasks;
+        }
+
+        public int getUnassignedTasks() {
+            return unassignedTasks;
+        }
+
+        public String getAssigneeName(Long assigneeId) {
+            return assigneeNames.get(assigneeId);
+        }
+
+        public int count(TaskStatus status) {
+            return statusCounts[status.ordinal()];
+        }
+
+        public Map<String, List<TaskResponseDto>> columns() {
+            if (dimensions.size() != 1) {
+                throw new IllegalStateException("Columns are only available for single-dimension groupings");
+            }
+            Map<String, List<TaskResponseDto>> columns = new LinkedHashMap<>();
+            root.forEachChild(dimensions.get(0), true, (key, child) ->
+                    columns.put(key, child != null ? child.tasks : new ArrayList<>()));
+            return columns;
+        }
+
+        public Map<String, Object> groups() {
+            return root.render(dimensions, 0);
+        }
+
+        public BoardGroupingDto toDto() {
+            Map<String, Integer> assignees = new LinkedHashMap<>();
+            Map<String, String> names = new LinkedHashMap<>();
+            if (unassignedTasks > 0) {
+                assignees.put(UNASSIGNED_KEY, unassignedTasks);
+            }
+            for (Map.Entry<Long, int[]> entry : assigneeCounts.entrySet()) {
+                String key = String.valueOf(entry.getKey());
+                assignees.put(key, entry.getValue()[0]);
+                names.put(key, assigneeNames.get(entry.getKey()));
+            }
+
+            return BoardGroupingDto.builder()
+                    .groupBy(dimensions.stream().map(d -> d.name().toLowerCase()).toList())
+                    .groups(groups())
+                    .statusCounts(countsByName(STATUSES, statusCounts))
+                    .priorityCounts(countsByName(PRIORITIES, priorityCounts))
+                    .typeCounts(countsByName(TYPES, typeCounts))
+                    .assigneeCounts(assignees)
+                    .assignees(names)
+                    .totalTasks(totalTasks)
+                    .unassignedTasks(unassignedTasks)
+                    .build();
+        }
+
+        private static Map<String, Integer> countsByName(Enum<?>[] constants, int[] counts) {
+            Map<String, Integer> result = new LinkedHashMap<>();
+            for (Enum<?> constant : constants) {
+                result.put(constant.name(), counts[constant.ordinal()]);
+            }
+            return result;
+        }
+    }
+
+    private static final class Bucket {
+        private final List<TaskResponseDto> tasks = new ArrayList<>();
+        private Bucket[] byOrdinal;
+        private Map<Long, Bucket> byAssignee;
+        private Bucket unassigned;
+
+        private Bucket child(Dimension dimension, TaskView task) {
+            if (dimension == Dimension.ASSIGNEE) {
+                Long assigneeId = task.getAssigneeId();
+                if (assigneeId == null) {
+                    if (unassigned == null) {
+                        unassigned = new Bucket();
+                    }
+                    return unassigned;
+                }
+                if (byAssignee == null) {
+                    byAssignee = new LinkedHashMap<>();
+                }
+                return byAssignee.computeIfAbsent(assigneeId, id -> new Bucket());
+            }
+
+            int ordinal = ordinalOf(dimension, task);
+            if (byOrdinal == null) {
+                byOrdinal = new Bucket[constantsOf(dimension).length];
+            }
+            Bucket child = byOrdinal[ordinal];
+            if (child == null) {
+                child = new Bucket();
+                byOrdinal[ordinal] = child;
+            }
+            return child;
+        }
+
+        private void forEachChild(Dimension dimension, boolean includeEmpty, BiConsumer<String, Bucket> consumer) {
+            if (dimension == Dimension.ASSIGNEE) {
+                if (unassigned != null) {
+                    consumer.accept(UNASSIGNED_KEY, unassigned);
+                }
+                if (byAssignee != null) {
+                    byAssignee.forEach((id, child) -> consumer.accept(String.valueOf(id), child));
+                }
+                return;
+            }
+
+            for (Enum<?> constant : constantsOf(dimension)) {
+                Bucket child = byOrdinal != null ? byOrdinal[constant.ordinal()] : null;
+                if (child != null || includeEmpty) {
+                    consumer.accept(constant.name(), child);
+                }
+            }
+        }
+
+        private Map<String, Object> render(List<Dimension> dimensions, int depth) {
+            Map<String, Object> rendered = new LinkedHashMap<>();
+            boolean leafLevel = depth == dimensions.size() - 1;
+            forEachChild(dimensions.get(depth), depth == 0, (key, child) -> {
+                if (leafLevel) {
+                    rendered.put(key, child != null ? child.tasks : new ArrayList<>());
+                } else {
+                    rendered.put(key, child != null ? child.render(dimensions, depth + 1) : new LinkedHashMap<>());
+                }
+            });
+            return rendered;
+        }
+
+        private static int ordinalOf(Dimension dimension, TaskView task) {
+            return switch (dimension) {
+                case STATUS -> task.getStatus().ordinal();
+                case PRIORITY -> task.getPriority().ordinal();
+                case TYPE -> task.getType().ordinal();
+                case ASSIGNEE -> throw new IllegalArgumentException("Assignee buckets are keyed by id");
+            };
+        }
+
+        private static Enum<?>[] constantsOf(Dimension dimension) {
+            return switch (dimension) {
+                case STATUS -> STATUSES;
+                case PRIORITY -> PRIORITIES;
+                case TYPE -> TYPES;
+                case ASSIGNEE -> throw new IllegalArgumentException("Assignee buckets are keyed by id");
+            };
+        }
+    }
+}
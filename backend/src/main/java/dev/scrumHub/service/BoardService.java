@@ -1,11 +1,14 @@
 package dev.scrumHub.service;
 
+import dev.scrumHub.dto.BoardGroupingDto;
 import dev.scrumHub.dto.TaskResponseDto;
-import dev.scrumHub.dto.UserResponseDto;
 import dev.scrumHub.model.Task;
 import dev.scrumHub.model.User;
 import dev.scrumHub.repository.TaskRepository;
 import dev.scrumHub.repository.UserRepository;
+import dev.scrumHub.repository.projection.TaskView;
+import dev.scrumHub.service.BoardGroupingEngine.Dimension;
+import dev.scrumHub.service.BoardGroupingEngine.Grouping;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -19,161 +22,169 @@ public class BoardService {
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final TaskService taskService;
+    private final BoardGroupingEngine groupingEngine;
+    private final BoardCache boardCache;
 
     public Map<String, List<TaskResponseDto>> getDeveloperBoard(Long projectId, Long sprintId, Long developerId) {
-        List<Task> tasks;
-        
-        if (developerId != null) {
-            tasks = taskRepository.findByAssigneeIdAndSprintId(developerId, sprintId);
-        } else if (sprintId != null) {
-            tasks = taskRepository.findBySprintIdOrderByPriorityDesc(sprintId);
-        } else if (projectId != null) {
-            tasks = taskRepository.findByProjectIdOrderByCreatedAtDesc(projectId);
-        } else {
-            tasks = new ArrayList<>();
+        if (isCrossProjectLookup(sprintId, developerId)) {
+            return groupingEngine.group(loadDeveloperTasks(projectId, sprintId, developerId), Dimension.STATUS).columns();
         }
+        return boardCache.get(new BoardCache.Key("developer", projectId, sprintId, developerId, null),
+                () -> groupingEngine.group(loadDeveloperTasks(projectId, sprintId, developerId), Dimension.STATUS).columns());
+    }
 
-        List<Task> developerTasks = tasks.stream()
-                .filter(task -> {
-                    if (task.getAssignee() == null) return false;
-                    return task.getAssignee().getRole() == User.UserRole.DEVELOPER;
-                })
-                .collect(Collectors.toList());
-
-        return groupTasksByStatus(developerTasks);
+    public BoardGroupingDto getDeveloperBoardGrouping(Long projectId, Long sprintId, Long developerId, List<Dimension> dimensions) {
+        if (isCrossProjectLookup(sprintId, developerId)) {
+            return groupingEngine.group(loadDeveloperTasks(projectId, sprintId, developerId), dimensions).toDto();
+        }
+        return boardCache.get(new BoardCache.Key("developer", projectId, sprintId, developerId, dimensions.toString()),
+                () -> frozen(groupingEngine.group(loadDeveloperTasks(projectId, sprintId, developerId), dimensions).toDto()));
     }
 
     public Map<String, List<TaskResponseDto>> getTesterBoard(Long projectId, Long sprintId, Long testerId) {
-        List<Task> tasks;
+        return boardCache.get(new BoardCache.Key("tester", projectId, sprintId, null, null),
+                () -> groupingEngine.group(loadBoardTasks(projectId, sprintId), Dimension.STATUS).columns());
+    }
 
-        if (sprintId != null) {
-            tasks = taskRepository.findBySprintIdOrderByPriorityDesc(sprintId);
-        } else if (projectId != null) {
-            tasks = taskRepository.findByProjectIdOrderByCreatedAtDesc(projectId);
-        } else {
-            tasks = new ArrayList<>();
-        }
+    public Map<String, Object> getTesterBoardWithStats(Long projectId, Long sprintId, Long testerId) {
+        return boardCache.get(new BoardCache.Key("tester-enhanced", projectId, sprintId, null, null),
+                () -> buildTesterBoardWithStats(projectId, sprintId));
+    }
 
-        return groupTasksByStatus(tasks);
+    public Map<String, Object> getScrumMasterBoard(Long projectId, Long sprintId) {
+        return boardCache.get(new BoardCache.Key("scrum-master", projectId, sprintId, null, null),
+                () -> buildScrumMasterBoard(projectId, sprintId));
     }
 
-    public Map<String, Object> getTesterBoardWithStats(Long projectId, Long sprintId, Long testerId) {
-        List<Task> tasks;
+    public BoardGroupingDto getBoardGrouping(Long projectId, Long sprintId, List<Dimension> dimensions) {
+        return boardCache.get(new BoardCache.Key("grouping", projectId, sprintId, null, dimensions.toString()),
+                () -> frozen(groupingEngine.group(loadBoardTasks(projectId, sprintId), dimensions).toDto()));
+    }
 
-        if (sprintId != null) {
-            tasks = taskRepository.findBySprintIdOrderByPriorityDesc(sprintId);
-        } else if (projectId != null) {
-            tasks = taskRepository.findByProjectIdOrderByCreatedAtDesc(projectId);
-        } else {
-            tasks = new ArrayList<>();
+    public Map<String, List<TaskResponseDto>> getTasksByStatusForProject(Long projectId) {
+        try {
+            return boardCache.get(new BoardCache.Key("tasks-by-status", projectId, null, null, null),
+                    () -> groupingEngine.group(taskRepository.findViewsByProjectId(projectId), Dimension.STATUS).columns());
+        } catch (Exception e) {
+            return new HashMap<>();
         }
+    }
 
-        Map<String, Object> boardData = new HashMap<>();
+    public Map<String, List<TaskResponseDto>> getTasksByAssigneeForProject(Long projectId) {
+        try {
+            return boardCache.get(new BoardCache.Key("tasks-by-assignee", projectId, null, null, null),
+                    () -> groupTasksByAssignee(taskRepository.findViewsByProjectId(projectId)));
+        } catch (Exception e) {
+            return new HashMap<>();
+        }
+    }
+
+    // Sprint-less developer lookups span every project, so no project or sprint version can invalidate them.
+    private boolean isCrossProjectLookup(Long sprintId, Long developerId) {
+        return developerId != null && sprintId == null;
+    }
 
-        Map<String, List<TaskResponseDto>> tasksByStatus = groupTasksByStatus(tasks);
-        boardData.put("tasksByStatus", tasksByStatus);
+    private BoardGroupingDto frozen(BoardGroupingDto dto) {
+        return BoardGroupingDto.builder()
+                .groupBy(BoardCache.freeze(dto.getGroupBy()))
+                .groups(BoardCache.freeze(dto.getGroups()))
+                .statusCounts(BoardCache.freeze(dto.getStatusCounts()))
+                .priorityCounts(BoardCache.freeze(dto.getPriorityCounts()))
+                .typeCounts(BoardCache.freeze(dto.getTypeCounts()))
+                .assigneeCounts(BoardCache.freeze(dto.getAssigneeCounts()))
+                .assignees(BoardCache.freeze(dto.getAssignees()))
+                .totalTasks(dto.getTotalTasks())
+                .unassignedTasks(dto.getUnassignedTasks())
+                .build();
+    }
+
+    private Map<String, Object> buildTesterBoardWithStats(Long projectId, Long sprintId) {
+        Grouping grouping = groupingEngine.group(loadBoardTasks(projectId, sprintId), Dimension.STATUS);
+
+        Map<String, Object> boardData = new HashMap<>();
+        boardData.put("tasksByStatus", grouping.columns());
 
         Map<String, Integer> stats = new HashMap<>();
-        stats.put("totalTasks", tasks.size());
-        stats.put("readyForTesting", (int) tasks.stream().filter(t -> t.getStatus() == Task.TaskStatus.READY_FOR_TESTING).count());
-        stats.put("inTesting", (int) tasks.stream().filter(t -> t.getStatus() == Task.TaskStatus.IN_TESTING).count());
-        stats.put("testPassed", (int) tasks.stream().filter(t -> t.getStatus() == Task.TaskStatus.TEST_PASSED).count());
-        stats.put("bugFound", (int) tasks.stream().filter(t -> t.getStatus() == Task.TaskStatus.BUG_FOUND).count());
-        stats.put("completedTasks", (int) tasks.stream().filter(t -> t.getStatus() == Task.TaskStatus.DONE).count());
+        stats.put("totalTasks", grouping.getTotalTasks());
+        stats.put("readyForTesting", grouping.count(Task.TaskStatus.READY_FOR_TESTING));
+        stats.put("inTesting", grouping.count(Task.TaskStatus.IN_TESTING));
+        stats.put("testPassed", grouping.count(Task.TaskStatus.TEST_PASSED));
+        stats.put("bugFound", grouping.count(Task.TaskStatus.BUG_FOUND));
+        stats.put("completedTasks", grouping.count(Task.TaskStatus.DONE));
         boardData.put("stats", stats);
 
         return boardData;
     }
 
-    public Map<String, Object> getScrumMasterBoard(Long projectId, Long sprintId) {
-        List<Task> tasks;
-        
-        if (sprintId != null) {
-            tasks = new ArrayList<>(taskRepository.findBySprintIdOrderByPriorityDesc(sprintId));
-        } else if (projectId != null) {
-            tasks = new ArrayList<>(taskRepository.findByProjectIdOrderByCreatedAtDesc(projectId));
-        } else {
-            tasks = new ArrayList<>();
-        }
+    private Map<String, Object> buildScrumMasterBoard(Long projectId, Long sprintId) {
+        Grouping grouping = groupingEngine.group(loadBoardTasks(projectId, sprintId), Dimension.STATUS);
 
         Map<String, Object> boardData = new HashMap<>();
-        
-        Map<String, List<TaskResponseDto>> tasksByStatus = groupTasksByStatus(tasks);
-        boardData.put("tasksByStatus", tasksByStatus);
-        
+        boardData.put("tasksByStatus", grouping.columns());
+
         boardData.put("tasksByAssignee", new HashMap<>());
-        
+
         Map<String, Integer> stats = new HashMap<>();
-        stats.put("totalTasks", tasks.size());
-        stats.put("completedTasks", (int) tasks.stream().filter(t -> t.getStatus() == Task.TaskStatus.DONE).count());
-        stats.put("inProgressTasks", (int) tasks.stream().filter(t -> t.getStatus() == Task.TaskStatus.IN_PROGRESS).count());
-        stats.put("unassignedTasks", (int) tasks.stream().filter(t -> t.getAssignee() == null).count());
+        stats.put("totalTasks", grouping.getTotalTasks());
+        stats.put("completedTasks", grouping.count(Task.TaskStatus.DONE));
+        stats.put("inProgressTasks", grouping.count(Task.TaskStatus.IN_PROGRESS));
+        stats.put("unassignedTasks", grouping.getUnassignedTasks());
         boardData.put("stats", stats);
-        
+
         return boardData;
     }
 
-    public Map<String, List<TaskResponseDto>> getTasksByStatusForProject(Long projectId) {
-        try {
-            List<Task> tasks = new ArrayList<>(taskRepository.findByProjectIdOrderByCreatedAtDesc(projectId));
-            return groupTasksByStatus(tasks);
-        } catch (Exception e) {
-            return new HashMap<>();
-        }
-    }
+    private List<TaskView> loadDeveloperTasks(Long projectId, Long sprintId, Long developerId) {
+        List<TaskView> tasks;
 
-    public Map<String, List<TaskResponseDto>> getTasksByAssigneeForProject(Long projectId) {
-        try {
-            List<Task> tasks = new ArrayList<>(taskRepository.findByProjectIdOrderByCreatedAtDesc(projectId));
-            return groupTasksByAssignee(tasks);
-        } catch (Exception e) {
-            return new HashMap<>();
+        if (developerId != null) {
+            tasks = sprintId != null
+                    ? taskRepository.findViewsBySprintIdAndAssigneeId(sprintId, developerId)
+                    : taskRepository.findViewsWithoutSprintByAssigneeId(developerId);
+        } else if (sprintId != null) {
+            tasks = taskRepository.findViewsBySprintId(sprintId);
+        } else if (projectId != null) {
+            tasks = taskRepository.findViewsByProjectId(projectId);
+        } else {
+            tasks = new ArrayList<>();
         }
+
+        return tasks.stream()
+                .filter(task -> task.getAssigneeRole() == User.UserRole.DEVELOPER)
+                .collect(Collectors.toList());
     }
 
-    private Map<String, List<TaskResponseDto>> groupTasksByStatus(List<Task> tasks) {
-        Map<String, List<TaskResponseDto>> grouped = new LinkedHashMap<>();
-        
-        grouped.put("TO_DO", new ArrayList<>());
-        grouped.put("IN_PROGRESS", new ArrayList<>());
-        grouped.put("READY_FOR_TESTING", new ArrayList<>());
-        grouped.put("IN_TESTING", new ArrayList<>());
-        grouped.put("BUG_FOUND", new ArrayList<>());
-        grouped.put("TEST_PASSED", new ArrayList<>());
-        grouped.put("DONE", new ArrayList<>());
-        
-        for (Task task : tasks) {
-            String status = task.getStatus().toString();
-            TaskResponseDto taskDto = taskService.convertToDto(task);
-            grouped.get(status).add(taskDto);
+    private List<TaskView> loadBoardTasks(Long projectId, Long sprintId) {
+        if (sprintId != null) {
+            return taskRepository.findViewsBySprintId(sprintId);
+        } else if (projectId != null) {
+            return taskRepository.findViewsByProjectId(projectId);
         }
-        
-        return grouped;
+        return new ArrayList<>();
     }
 
-    private Map<String, List<TaskResponseDto>> groupTasksByAssignee(List<Task> tasks) {
+    private Map<String, List<TaskResponseDto>> groupTasksByAssignee(List<TaskView> tasks) {
         Map<String, List<TaskResponseDto>> grouped = new LinkedHashMap<>();
-        
-        List<TaskResponseDto> unassignedTasks = tasks.stream()
-                .filter(task -> task.getAssignee() == null)
-                .map(taskService::convertToDto)
-                .collect(Collectors.toList());
-        if (!unassignedTasks.isEmpty()) {
-            grouped.put("Unassigned", unassignedTasks);
-        }
-        
-        Map<User, List<Task>> tasksByUser = tasks.stream()
-                .filter(task -> task.getAssignee() != null)
-                .collect(Collectors.groupingBy(Task::getAssignee));
-        
-        for (Map.Entry<User, List<Task>> entry : tasksByUser.entrySet()) {
-            String assigneeName = entry.getKey().getFullName();
-            List<TaskResponseDto> userTasks = entry.getValue().stream()
-                    .map(taskService::convertToDto)
-                    .collect(Collectors.toList());
-            grouped.put(assigneeName, userTasks);
+
+        Grouping grouping = groupingEngine.group(tasks, Dimension.ASSIGNEE);
+        Set<String> seenNames = new HashSet<>();
+
+        for (Map.Entry<String, Object> entry : grouping.groups().entrySet()) {
+            @SuppressWarnings("unchecked")
+            List<TaskResponseDto> assigneeTasks = (List<TaskResponseDto>) entry.getValue();
+            if ("unassigned".equals(entry.getKey())) {
+                grouped.put("Unassigned", assigneeTasks);
+                continue;
+            }
+
+            Long assigneeId = Long.valueOf(entry.getKey());
+            String assigneeName = grouping.getAssigneeName(assigneeId);
+            if (!seenNames.add(assigneeName)) {
+                assigneeName = assigneeName + " (#" + assigneeId + ")";
+            }
+            grouped.put(assigneeName, assigneeTasks);
         }
-        
+
         return grouped;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,120 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.dto.BoardChangesDto;
+import dev.scrumHub.model.TaskTombstone;
+import dev.scrumHub.repository.TaskRepository;
+import dev.scrumHub.repository.TaskTombstoneRepository;
+import dev.scrumHub.repository.projection.TaskView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class BoardSyncService {
+
+    private static final int MAX_CHANGES = 500;
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskService taskService;
+    private final long settleSeconds;
+
+    public BoardSyncService(TaskRepository taskRepository,
+                            TaskTombstoneRepository taskTombstoneRepository,
+                            TaskService taskService,
+                            @Value("${app.board-sync.settle-seconds:5}") long settleSeconds) {
+        this.taskRepository = taskRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.taskService = taskService;
+        this.settleSeconds = settleSeconds;
+    }
+
+    @Transactional(readOnly = true)
+    public BoardChangesDto getChanges(Long projectId, Long sprintId, String since) {
+        if (projectId == null && sprintId == null) {
+            throw new RuntimeException("Either projectId or sprintId is required");
+        }
+
+        Cursor cursor = since == null || since.isEmpty() ? null : Cursor.decode(since);
+        LocalDateTime settledAt = LocalDateTime.now().minusSeconds(settleSeconds);
+
+        List<TaskView> tasks = taskRepository.findViewChanges(projectId, sprintId,
+                cursor != null ? cursor.updatedAt() : null,
+                cursor != null ? cursor.taskId() : null,
+                MAX_CHANGES + 1);
+        boolean moreTasks = tasks.size() > MAX_CHANGES;
+        if (moreTasks) {
+            tasks = tasks.subList(0, MAX_CHANGES);
+        }
+
+        LocalDateTime nextUpdatedAt = cursor != null ? cursor.updatedAt() : null;
+        long nextTaskId = cursor != null ? cursor.taskId() : 0L;
+        for (TaskView task : tasks) {
+            if (task.getUpdatedAt().isAfter(settledAt)) {
+                moreTasks = false;
+                if (nextUpdatedAt == null || nextUpdatedAt.isBefore(settledAt)) {
+                    nextUpdatedAt = settledAt;
+                    nextTaskId = 0L;
+                }
+                break;
+            }
+            nextUpdatedAt = task.getUpdatedAt();
+            nextTaskId = task.getId();
+        }
+
+        List<Long> deletedTaskIds = List.of();
+        boolean moreDeletions = false;
+        long nextTombstoneId;
+        if (cursor == null) {
+            nextTombstoneId = taskTombstoneRepository.findMaxSettledId(settledAt);
+        } else {
+            List<TaskTombstone> tombstones = taskTombstoneRepository.findChanges(cursor.tombstoneId(),
+                    projectId, sprintId, MAX_CHANGES + 1);
+            moreDeletions = tombstones.size() > MAX_CHANGES;
+            if (moreDeletions) {
+                tombstones = tombstones.subList(0, MAX_CHANGES);
+            }
+            deletedTaskIds = tombstones.stream().map(TaskTombstone::getTaskId).collect(Collectors.toList());
+            nextTombstoneId = cursor.tombstoneId();
+            for (TaskTombstone tombstone : tombstones) {
+                if (tombstone.getDeletedAt() != null && tombstone.getDeletedAt().isAfter(settledAt)) {
+                    moreDeletions = false;
+                    break;
+                }
+                nextTombstoneId = tombstone.getId();
+            }
+        }
+
+        return BoardChangesDto.builder()
+                .updated(tasks.stream().map(taskService::convertToDto).collect(Collectors.toList()))
+                .deletedTaskIds(deletedTaskIds)
+                .cursor(new Cursor(nextUpdatedAt, nextTaskId, nextTombstoneId).encode())
+                .hasMore(moreTasks || moreDeletions)
+                .fullSync(cursor == null)
+                .build();
+    }
+
+    private record Cursor(LocalDateTime updatedAt, long taskId, long tombstoneId) {
+
+        private String encode() {
+            String raw = (updatedAt != null ? updatedAt.toString() : "") + "|" + taskId + "|" + tombstoneId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static Cursor decode(String value) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split("\\|", -1);
+                return new Cursor(parts[0].isEmpty() ? null : LocalDateTime.parse(parts[0]),
+                        Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Invalid sync cursor: " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.dto.CumulativeFlowDto;
+import dev.scrumHub.model.FlowSnapshot;
+import dev.scrumHub.model.FlowSnapshot.FlowScope;
+import dev.scrumHub.model.ProjectStats;
+import dev.scrumHub.model.Sprint;
+import dev.scrumHub.model.Sprint.SprintStatus;
+import dev.scrumHub.model.SprintStats;
+import dev.scrumHub.model.Task.TaskStatus;
+import dev.scrumHub.model.TaskCounters;
+import dev.scrumHub.repository.FlowSnapshotRepository;
+import dev.scrumHub.repository.ProjectRepository;
+import dev.scrumHub.repository.ProjectStatsRepository;
+import dev.scrumHub.repository.SprintRepository;
+import dev.scrumHub.repository.TaskTombstoneRepository;
+import dev.scrumHub.repository.TaskTransitionRepository;
+import dev.scrumHub.repository.projection.DeletionCountView;
+import dev.scrumHub.repository.projection.SnapshotDateView;
+import dev.scrumHub.repository.projection.TransitionCountView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+public class CumulativeFlowService {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final FlowSnapshotRepository flowSnapshotRepository;
+    private final ProjectStatsRepository projectStatsRepository;
+    private final ProjectRepository projectRepository;
+    private final SprintRepository sprintRepository;
+    private final StatsCounterService statsCounterService;
+    private final TaskTransitionRepository transitionRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int backfillMaxDays;
+
+    public CumulativeFlowService(FlowSnapshotRepository flowSnapshotRepository,
+                                 ProjectStatsRepository projectStatsRepository,
+                                 ProjectRepository projectRepository,
+                                 SprintRepository sprintRepository,
+                                 StatsCounterService statsCounterService,
+                                 TaskTransitionRepository transitionRepository,
+                                 TaskTombstoneRepository tombstoneRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${app.cfd.backfill-max-days:31}") int backfillMaxDays) {
+        this.flowSnapshotRepository = flowSnapshotRepository;
+        this.projectStatsRepository = projectStatsRepository;
+        this.projectRepository = projectRepository;
+        this.sprintRepository = sprintRepository;
+        this.statsCounterService = statsCounterService;
+        this.transitionRepository = transitionRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.backfillMaxDays = Math.max(0, backfillMaxDays);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissedDays() {
+        LocalDate today = LocalDate.now();
+        LocalDate earliest = today.minusDays(backfillMaxDays);
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, TaskCounters> projects = new HashMap<>();
+            for (ProjectStats stats : projectStatsRepository.findAll()) {
+                projects.put(stats.getProjectId(), stats.getCounters());
+            }
+            Map<Long, TaskCounters> sprints = new HashMap<>();
+            List<Long> activeSprintIds = sprintRepository.findIdsByStatus(SprintStatus.ACTIVE);
+            for (SprintStats stats : statsCounterService.getSprintStats(activeSprintIds).values()) {
+                sprints.put(stats.getSprintId(), stats.getCounters());
+            }
+
+            List<FlowSnapshot> snapshots = new ArrayList<>();
+            LocalDateTime since = earliest.plusDays(1).atStartOfDay();
+            Map<Long, LocalDate> projectGaps = findGaps(FlowScope.PROJECT, projects.keySet(), earliest, today);
+            if (!projectGaps.isEmpty()) {
+                snapshots.addAll(replay(FlowScope.PROJECT, projectGaps, projects, today,
+                        transitionRepository.countProjectTransitionsSince(since),
+                        tombstoneRepository.countProjectDeletionsSince(since)));
+            }
+            Map<Long, LocalDate> sprintGaps = findGaps(FlowScope.SPRINT, sprints.keySet(), earliest, today);
+            if (!sprintGaps.isEmpty()) {
+                snapshots.addAll(replay(FlowScope.SPRINT, sprintGaps, sprints, today,
+                        transitionRepository.countSprintTransitionsSince(sprintGaps.keySet(), since),
+                        tombstoneRepository.countSprintDeletionsSince(sprintGaps.keySet(), since)));
+            }
+            flowSnapshotRepository.saveAll(snapshots);
+        });
+    }
+
+    @Scheduled(cron = "${app.cfd.daily-cron:0 55 23 * * *}")
+    public void captureDaily() {
+        capture(LocalDate.now());
+    }
+
+    public void capture(LocalDate date) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<FlowScope, Map<Long, FlowSnapshot>> existing = new EnumMap<>(FlowScope.class);
+            for (FlowSnapshot snapshot : flowSnapshotRepository.findBySnapshotDate(date)) {
+                existing.computeIfAbsent(snapshot.getScope(), scope -> new HashMap<>())
+                        .put(snapshot.getScopeId(), snapshot);
+            }
+
+            List<FlowSnapshot> snapshots = new ArrayList<>();
+            for (ProjectStats stats : projectStatsRepository.findAll()) {
+                snapshots.add(snapshotOf(existing, FlowScope.PROJECT, stats.getProjectId(), date, stats.getCounters()));
+            }
+            List<Long> activeSprintIds = sprintRepository.findIdsByStatus(SprintStatus.ACTIVE);
+            for (SprintStats stats : statsCounterService.getSprintStats(activeSprintIds).values()) {
+                snapshots.add(snapshotOf(existing, FlowScope.SPRINT, stats.getSprintId(), date, stats.getCounters()));
+            }
+            flowSnapshotRepository.saveAll(snapshots);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public CumulativeFlowDto getCumulativeFlow(Long projectId, Long sprintId, LocalDate from, LocalDate to) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found with id: " + projectId);
+        }
+        if (sprintId != null) {
+            Sprint sprint = sprintRepository.findById(sprintId)
+                    .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
+            if (!sprint.getProject().getId().equals(projectId)) {
+                throw new RuntimeException("Sprint " + sprintId + " does not belong to project " + projectId);
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate end = to != null ? to : today;
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (end.isBefore(start)) {
+            throw new RuntimeException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new RuntimeException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        FlowScope scope = sprintId != null ? FlowScope.SPRINT : FlowScope.PROJECT;
+        Long scopeId = sprintId != null ? sprintId : projectId;
+
+        List<FlowSnapshot> snapshots = flowSnapshotRepository.findRange(scope, scopeId, start, end);
+        List<FlowSnapshot> previous = flowSnapshotRepository.findLatestBefore(scope, scopeId, start, PageRequest.of(0, 1));
+        Optional<TaskCounters> live = sprintId != null
+                ? statsCounterService.getSprintStats(sprintId).map(SprintStats::getCounters)
+                : statsCounterService.getProjectStats(projectId).map(ProjectStats::getCounters);
+
+        int days = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        int[][] counts = new int[days][];
+        List<LocalDate> dates = new ArrayList<>(days);
+
+        int[] current = previous.isEmpty() ? new int[STATUSES.length] : toRow(previous.get(0).getCounters());
+        Iterator<FlowSnapshot> iterator = snapshots.iterator();
+        FlowSnapshot next = iterator.hasNext() ? iterator.next() : null;
+
+        for (int day = 0; day < days; day++) {
+            LocalDate date = start.plusDays(day);
+            while (next != null && !next.getSnapshotDate().isAfter(date)) {
+                current = toRow(next.getCounters());
+                next = iterator.hasNext() ? iterator.next() : null;
+            }
+            if (date.equals(today) && live.isPresent()) {
+                current = toRow(live.get());
+            }
+            dates.add(date);
+            counts[day] = date.isAfter(today) ? new int[STATUSES.length] : current;
+        }
+
+        return CumulativeFlowDto.builder()
+                .projectId(projectId)
+                .sprintId(sprintId)
+                .from(start)
+                .to(end)
+                .statuses(Arrays.stream(STATUSES).map(Enum::name).collect(Collectors.toList()))
+                .dates(dates)
+                .counts(counts)
+                .build();
+    }
+
+    private Map<Long, LocalDate> findGaps(FlowScope scope, Set<Long> scopeIds, LocalDate earliest, LocalDate today) {
+        Map<Long, LocalDate> gaps = new HashMap<>();
+        for (SnapshotDateView latest : flowSnapshotRepository.findLatestDates(scope)) {
+            if (!scopeIds.contains(latest.getScopeId())) {
+                continue;
+            }
+            LocalDate first = latest.getSnapshotDate().plusDays(1);
+            if (first.isBefore(earliest)) {
+                first = earliest;
+            }
+            if (first.isBefore(today)) {
+                gaps.put(latest.getScopeId(), first);
+            }
+        }
+        return gaps;
+    }
+
+    private List<FlowSnapshot> replay(FlowScope scope, Map<Long, LocalDate> gaps, Map<Long, TaskCounters> live,
+                                      LocalDate today, List<TransitionCountView> transitions,
+                                      List<DeletionCountView> deletions) {
+        Map<Long, Map<LocalDate, List<TransitionCountView>>> byScopeAndDay = new HashMap<>();
+        Map<Long, Map<LocalDate, Long>> recordedDeletions = new HashMap<>();
+        for (TransitionCountView transition : transitions) {
+            byScopeAndDay.computeIfAbsent(transition.getScopeId(), id -> new HashMap<>())
+                    .computeIfAbsent(transition.getDay(), day -> new ArrayList<>())
+                    .add(transition);
+            if (transition.getToStatus() == null) {
+                recordedDeletions.computeIfAbsent(transition.getScopeId(), id -> new HashMap<>())
+                        .merge(transition.getDay(), transition.getCount(), Long::sum);
+            }
+        }
+        Map<Long, Map<LocalDate, Long>> actualDeletions = new HashMap<>();
+        for (DeletionCountView deletion : deletions) {
+            actualDeletions.computeIfAbsent(deletion.getScopeId(), id -> new HashMap<>())
+                    .merge(deletion.getDay(), deletion.getCount(), Long::sum);
+        }
+
+        List<FlowSnapshot> snapshots = new ArrayList<>();
+        for (Map.Entry<Long, LocalDate> gap : gaps.entrySet()) {
+            Long scopeId = gap.getKey();
+            Map<LocalDate, List<TransitionCountView>> days = byScopeAndDay.getOrDefault(scopeId, Map.of());
+            Map<LocalDate, Long> recorded = recordedDeletions.getOrDefault(scopeId, Map.of());
+            Map<LocalDate, Long> actual = actualDeletions.getOrDefault(scopeId, Map.of());
+            TaskCounters counters = new TaskCounters();
+            counters.reset(live.get(scopeId).toMap());
+            for (LocalDate day = today; day.isAfter(gap.getValue()); day = day.minusDays(1)) {
+                if (actual.getOrDefault(day, 0L) > recorded.getOrDefault(day, 0L)) {
+                    warnUnreconstructable(scope, scopeId, gap.getValue(), day, "task deletions without a recorded transition");
+                    break;
+                }
+                for (TransitionCountView transition : days.getOrDefault(day, List.of())) {
+                    for (long i = 0; i < transition.getCount(); i++) {
+                        counters.move(transition.getToStatus(), transition.getFromStatus());
+                    }
+                }
+                if (counters.getTotalTasks() < 0 || counters.toMap().values().stream().anyMatch(count -> count < 0)) {
+                    warnUnreconstructable(scope, scopeId, gap.getValue(), day, "transitions do not match current counters");
+                    break;
+                }
+                FlowSnapshot snapshot = FlowSnapshot.builder().scope(scope).scopeId(scopeId)
+                        .snapshotDate(day.minusDays(1)).build();
+                snapshot.getCounters().reset(counters.toMap());
+                snapshots.add(snapshot);
+            }
+        }
+        return snapshots;
+    }
+
+    private static void warnUnreconstructable(FlowScope scope, Long scopeId, LocalDate gapStart, LocalDate day,
+                                              String reason) {
+        System.err.println("Warning: Skipped cumulative flow backfill for " + scope + " " + scopeId +
+                " from " + gapStart + " to " + day.minusDays(1) + ": " + reason);
+    }
+
+    private FlowSnapshot snapshotOf(Map<FlowScope, Map<Long, FlowSnapshot>> existing, FlowScope scope,
+                                    Long scopeId, LocalDate date, TaskCounters counters) {
+        FlowSnapshot snapshot = existing.getOrDefault(scope, Map.of()).get(scopeId);
+        if (snapshot == null) {
+            snapshot = FlowSnapshot.builder().scope(scope).scopeId(scopeId).snapshotDate(date).build();
+        }
+        snapshot.getCounters().reset(counters.toMap());
+        return snapshot;
+    }
+
+    private static int[] toRow(TaskCounters counters) {
+        int[] row = new int[STATUSES.length];
+        for (int i = 0; i < STATUSES.length; i++) {
+            row[i] = (int) counters.get(STATUSES[i]);
+        }
+        return row;
+    }
+}
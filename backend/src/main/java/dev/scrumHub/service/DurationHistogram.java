@@ -0,0 +1,96 @@
+package dev.scrumHub.service;
+
+import java.util.Arrays;
+
+public final class DurationHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private long[] counts = new long[0];
+    private long totalCount;
+
+    public static DurationHistogram decode(String encoded) {
+        DurationHistogram histogram = new DurationHistogram();
+        if (encoded == null || encoded.isBlank()) {
+            return histogram;
+        }
+        for (String entry : encoded.split(",")) {
+            int separator = entry.indexOf(':');
+            histogram.add(Integer.parseInt(entry.substring(0, separator)), Long.parseLong(entry.substring(separator + 1)));
+        }
+        return histogram;
+    }
+
+    public String encode() {
+        StringBuilder encoded = new StringBuilder();
+        for (int index = 0; index < counts.length; index++) {
+            if (counts[index] > 0) {
+                if (encoded.length() > 0) {
+                    encoded.append(',');
+                }
+                encoded.append(index).append(':').append(counts[index]);
+            }
+        }
+        return encoded.toString();
+    }
+
+    public void record(long value) {
+        add(bucketIndex(Math.max(0, value)), 1);
+    }
+
+    public void merge(DurationHistogram other) {
+        for (int index = 0; index < other.counts.length; index++) {
+            if (other.counts[index] > 0) {
+                add(index, other.counts[index]);
+            }
+        }
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long percentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int index = 0; index < counts.length; index++) {
+            seen += counts[index];
+            if (seen >= rank) {
+                return bucketUpperBound(index);
+            }
+        }
+        return bucketUpperBound(counts.length - 1);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >> shift) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        long lowerBound = (long) (SUB_BUCKETS + subBucket) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    private void add(int index, long count) {
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, index + 1);
+        }
+        counts[index] += count;
+        totalCount += count;
+    }
+}
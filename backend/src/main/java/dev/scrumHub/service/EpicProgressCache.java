@@ -0,0 +1,89 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.model.ProductBacklogItem.BacklogStatus;
+import dev.scrumHub.repository.ProductBacklogItemRepository;
+import dev.scrumHub.repository.projection.EpicProgressView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class EpicProgressCache {
+
+    private final ProductBacklogItemRepository backlogItemRepository;
+    private final long maxAgeMillis;
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public EpicProgressCache(ProductBacklogItemRepository backlogItemRepository,
+                             @Value("${app.epic-progress.max-age-seconds:300}") long maxAgeSeconds) {
+        this.backlogItemRepository = backlogItemRepository;
+        this.maxAgeMillis = maxAgeSeconds * 1000;
+    }
+
+    public record EpicProgress(long totalItems, long doneItems, long totalStoryPoints, long completedStoryPoints) {
+
+        public double completionPercentage() {
+            return totalStoryPoints == 0 ? 0.0 : (double) completedStoryPoints / totalStoryPoints * 100.0;
+        }
+
+        public boolean allItemsDone() {
+            return totalItems > 0 && doneItems == totalItems;
+        }
+    }
+
+    private record Snapshot(long version, long createdAt, Map<Long, EpicProgress> progress) {
+    }
+
+    public Map<Long, EpicProgress> getProjectProgress(Long projectId) {
+        long version = versionOf(projectId);
+        Snapshot snapshot = snapshots.get(projectId);
+        if (snapshot != null
+                && snapshot.version() == version
+                && System.currentTimeMillis() - snapshot.createdAt() < maxAgeMillis) {
+            return snapshot.progress();
+        }
+
+        Map<Long, EpicProgress> progress = new HashMap<>();
+        for (EpicProgressView row : backlogItemRepository.summarizeEpicProgressByProjectId(projectId, BacklogStatus.DONE)) {
+            progress.put(row.getEpicId(), new EpicProgress(
+                    row.getTotalItems(), row.getDoneItems(), row.getTotalStoryPoints(), row.getCompletedStoryPoints()));
+        }
+        Map<Long, EpicProgress> value = Map.copyOf(progress);
+        if (versionOf(projectId) == version) {
+            snapshots.put(projectId, new Snapshot(version, System.currentTimeMillis(), value));
+        }
+        return value;
+    }
+
+    public void invalidate(Long projectId) {
+        if (projectId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(projectId);
+                }
+            });
+        } else {
+            evict(projectId);
+        }
+    }
+
+    private void evict(Long projectId) {
+        versions.merge(projectId, 1L, Long::sum);
+        snapshots.remove(projectId);
+    }
+
+    private long versionOf(Long projectId) {
+        return Objects.requireNonNullElse(versions.get(projectId), 0L);
+    }
+}
@@ -1,12 +1,15 @@
 package dev.scrumHub.service;
 
+import dev.scrumHub.dto.EpicSummaryDto;
 import dev.scrumHub.model.Epic;
 import dev.scrumHub.model.Project;
 import dev.scrumHub.model.User;
 import dev.scrumHub.repository.EpicRepository;
 import dev.scrumHub.repository.ProjectRepository;
 import dev.scrumHub.repository.UserRepository;
+import dev.scrumHub.service.EpicProgressCache.EpicProgress;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -14,7 +17,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,13 +29,18 @@ public class EpicService {
     private final EpicRepository epicRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final EpicProgressCache epicProgressCache;
 
-    public List<Epic> getEpicsByProject(Long projectId) {
-        return epicRepository.findByProjectIdOrderByCreatedAtDesc(projectId);
+    public List<EpicSummaryDto> getEpicsByProject(Long projectId) {
+        return toSummaries(projectId, epicRepository.findByProjectIdOrderByCreatedAtDesc(projectId));
     }
 
-    public List<Epic> getActiveEpics(Long projectId) {
-        return epicRepository.findActiveEpicsByProjectId(projectId);
+    public List<EpicSummaryDto> getActiveEpics(Long projectId) {
+        return toSummaries(projectId, epicRepository.findActiveEpicsByProjectId(projectId));
+    }
+
+    public List<EpicSummaryDto> getActiveEpics(Long projectId, int limit) {
+        return toSummaries(projectId, epicRepository.findActiveEpicsByProjectId(projectId, PageRequest.of(0, limit)));
     }
 
     public Optional<Epic> getEpicWithBacklogItems(Long epicId) {
@@ -130,20 +140,23 @@ public class EpicService {
         return epicRepository.save(epic);
     }
 
-    public List<Epic> getEpicsByStatus(Long projectId, Epic.EpicStatus status) {
-        return epicRepository.findByProjectIdAndStatusOrderByCreatedAtDesc(projectId, status);
+    public List<EpicSummaryDto> getEpicsByStatus(Long projectId, Epic.EpicStatus status) {
+        return toSummaries(projectId, epicRepository.findByProjectIdAndStatusOrderByCreatedAtDesc(projectId, status));
     }
 
-    public List<Epic> getOverdueEpics(Long projectId) {
-        return epicRepository.findOverdueEpicsByProjectId(projectId);
+    public List<EpicSummaryDto> getOverdueEpics(Long projectId) {
+        return toSummaries(projectId, epicRepository.findOverdueEpicsByProjectId(projectId));
     }
 
-    public List<Epic> searchEpics(Long projectId, String searchTerm) {
-        return epicRepository.searchEpicsByProjectId(projectId, searchTerm);
+    public List<EpicSummaryDto> searchEpics(Long projectId, String searchTerm) {
+        return toSummaries(projectId, epicRepository.searchEpicsByProjectId(projectId, searchTerm));
     }
 
     public EpicStatistics getEpicStatistics(Long projectId) {
         Object[] stats = epicRepository.getEpicStatisticsByProjectId(projectId);
+        if (stats.length == 1 && stats[0] instanceof Object[] row) {
+            stats = row;
+        }
 
         if (stats.length > 0 && stats[0] != null) {
             return EpicStatistics.builder()
@@ -172,6 +185,45 @@ public class EpicService {
         }
 
         epicRepository.delete(epic);
+        epicProgressCache.invalidate(epic.getProject().getId());
+    }
+
+    private List<EpicSummaryDto> toSummaries(Long projectId, List<Epic> epics) {
+        if (epics.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, EpicProgress> progress = epicProgressCache.getProjectProgress(projectId);
+        return epics.stream()
+                .map(epic -> toSummary(projectId, epic, progress.getOrDefault(epic.getId(), new EpicProgress(0, 0, 0, 0))))
+                .collect(Collectors.toList());
+    }
+
+    private EpicSummaryDto toSummary(Long projectId, Epic epic, EpicProgress progress) {
+        boolean completed = epic.getStatus() == Epic.EpicStatus.COMPLETED || progress.allItemsDone();
+        LocalDateTime target = epic.getTargetCompletionDate();
+        return EpicSummaryDto.builder()
+                .id(epic.getId())
+                .projectId(projectId)
+                .title(epic.getTitle())
+                .description(epic.getDescription())
+                .businessValue(epic.getBusinessValue())
+                .status(epic.getStatus())
+                .priority(epic.getPriority())
+                .estimatedStoryPoints(epic.getEstimatedStoryPoints())
+                .targetRelease(epic.getTargetRelease())
+                .startDate(epic.getStartDate())
+                .targetCompletionDate(target)
+                .createdAt(epic.getCreatedAt())
+                .updatedAt(epic.getUpdatedAt())
+                .totalItems(progress.totalItems())
+                .doneItems(progress.doneItems())
+                .totalStoryPoints(progress.totalStoryPoints())
+                .completedStoryPoints(progress.completedStoryPoints())
+                .completionPercentage(progress.completionPercentage())
+                .completed(completed)
+                .overdue(target != null && LocalDateTime.now().isAfter(target) && !completed)
+                .daysUntilTarget(epic.getDaysUntilTarget())
+                .build();
     }
 
 
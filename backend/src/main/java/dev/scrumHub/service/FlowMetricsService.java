@@ -0,0 +1,252 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.dto.FlowMetricDto;
+import dev.scrumHub.dto.FlowMetricsDto;
+import dev.scrumHub.model.FlowHistogram;
+import dev.scrumHub.model.FlowHistogram.FlowDimension;
+import dev.scrumHub.model.FlowHistogram.FlowMetric;
+import dev.scrumHub.model.Task;
+import dev.scrumHub.model.Task.TaskStatus;
+import dev.scrumHub.repository.FlowHistogramRepository;
+import dev.scrumHub.repository.ProjectRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Service
+public class FlowMetricsService {
+
+    private final FlowHistogramRepository histogramRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<CompletionSample> pendingSamples;
+    private final AtomicLong droppedOnOverflow = new AtomicLong();
+
+    public FlowMetricsService(FlowHistogramRepository histogramRepository,
+                              ProjectRepository projectRepository,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${app.flow-metrics.queue-capacity:10000}") int queueCapacity) {
+        this.histogramRepository = histogramRepository;
+        this.projectRepository = projectRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.pendingSamples = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public void taskStatusChanged(Task task, TaskStatus previousStatus) {
+        if (task.getStatus() != TaskStatus.DONE || previousStatus == TaskStatus.DONE) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(task);
+                }
+            });
+        } else {
+            enqueue(task);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.flow-metrics.flush-seconds:10}", timeUnit = TimeUnit.SECONDS)
+    public void flushScheduled() {
+        flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public synchronized void flush() {
+        long dropped = droppedOnOverflow.getAndSet(0);
+        if (dropped > 0) {
+            System.err.println("Warning: Dropped " + dropped + " flow metric sample(s) because the queue was full");
+        }
+        List<CompletionSample> samples = new ArrayList<>();
+        pendingSamples.drainTo(samples);
+        if (samples.isEmpty()) {
+            return;
+        }
+        try {
+            write(samples);
+        } catch (RuntimeException e) {
+            System.err.println("Warning: Failed to flush " + samples.size() + " flow metric sample(s), retrying: " + e.getMessage());
+            samples.forEach(this::offer);
+        }
+    }
+
+    private void write(List<CompletionSample> samples) {
+
+        Map<HistogramKey, Accumulator> updates = new HashMap<>();
+        for (CompletionSample completion : samples) {
+            for (Map.Entry<FlowDimension, String> dimension : completion.dimensions().entrySet()) {
+                if (completion.cycleMinutes() != null) {
+                    updates.computeIfAbsent(new HistogramKey(completion.projectId(), FlowMetric.CYCLE_TIME,
+                                    dimension.getKey(), dimension.getValue()), key -> new Accumulator())
+                            .record(completion.cycleMinutes());
+                }
+                updates.computeIfAbsent(new HistogramKey(completion.projectId(), FlowMetric.LEAD_TIME,
+                                dimension.getKey(), dimension.getValue()), key -> new Accumulator())
+                        .record(completion.leadMinutes());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> projectIds = updates.keySet().stream().map(HistogramKey::projectId).collect(Collectors.toSet());
+            Map<HistogramKey, FlowHistogram> existing = new HashMap<>();
+            for (FlowHistogram histogram : histogramRepository.findByProjectIds(projectIds)) {
+                existing.put(new HistogramKey(histogram.getProjectId(), histogram.getMetric(),
+                        histogram.getDimension(), histogram.getDimensionKey()), histogram);
+            }
+
+            List<FlowHistogram> changed = new ArrayList<>();
+            for (Map.Entry<HistogramKey, Accumulator> entry : updates.entrySet()) {
+                HistogramKey key = entry.getKey();
+                Accumulator accumulator = entry.getValue();
+                FlowHistogram histogram = existing.get(key);
+                if (histogram == null) {
+                    histogram = FlowHistogram.builder()
+                            .projectId(key.projectId())
+                            .metric(key.metric())
+                            .dimension(key.dimension())
+                            .dimensionKey(key.dimensionKey())
+                            .build();
+                }
+                DurationHistogram buckets = DurationHistogram.decode(histogram.getBuckets());
+                buckets.merge(accumulator.histogram);
+                histogram.setBuckets(buckets.encode());
+                histogram.setSampleCount(histogram.getSampleCount() + accumulator.count);
+                histogram.setTotalMinutes(histogram.getTotalMinutes() + accumulator.totalMinutes);
+                histogram.setMaxMinutes(Math.max(histogram.getMaxMinutes(), accumulator.maxMinutes));
+                changed.add(histogram);
+            }
+            histogramRepository.saveAll(changed);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public FlowMetricsDto getFlowMetrics(Long projectId, String dimension) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found with id: " + projectId);
+        }
+        FlowDimension filter = null;
+        if (dimension != null && !dimension.isBlank()) {
+            try {
+                filter = FlowDimension.valueOf(dimension.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Invalid dimension: " + dimension);
+            }
+        }
+
+        List<FlowMetricDto> cycleTime = new ArrayList<>();
+        List<FlowMetricDto> leadTime = new ArrayList<>();
+        List<FlowHistogram> histograms = histogramRepository.findByProjectId(projectId).stream()
+                .sorted(Comparator.comparing(FlowHistogram::getDimension).thenComparing(FlowHistogram::getDimensionKey))
+                .collect(Collectors.toList());
+        for (FlowHistogram histogram : histograms) {
+            if (filter != null && histogram.getDimension() != filter) {
+                continue;
+            }
+            FlowMetricDto metric = toDto(histogram);
+            if (histogram.getMetric() == FlowMetric.CYCLE_TIME) {
+                cycleTime.add(metric);
+            } else {
+                leadTime.add(metric);
+            }
+        }
+
+        return FlowMetricsDto.builder()
+                .projectId(projectId)
+                .cycleTime(cycleTime)
+                .leadTime(leadTime)
+                .build();
+    }
+
+    private void enqueue(Task task) {
+        if (task.getCreatedAt() == null) {
+            return;
+        }
+        LocalDateTime completedAt = task.getCompletedAt() != null ? task.getCompletedAt() : LocalDateTime.now();
+
+        Map<FlowDimension, String> dimensions = new EnumMap<>(FlowDimension.class);
+        dimensions.put(FlowDimension.PROJECT, String.valueOf(task.getProject().getId()));
+        if (task.getSprint() != null) {
+            dimensions.put(FlowDimension.SPRINT, String.valueOf(task.getSprint().getId()));
+        }
+        if (task.getAssignee() != null) {
+            dimensions.put(FlowDimension.ASSIGNEE, String.valueOf(task.getAssignee().getId()));
+        }
+        if (task.getType() != null) {
+            dimensions.put(FlowDimension.TYPE, task.getType().name());
+        }
+
+        offer(new CompletionSample(
+                task.getProject().getId(),
+                dimensions,
+                task.getStartedAt() != null ? Duration.between(task.getStartedAt(), completedAt).toMinutes() : null,
+                Duration.between(task.getCreatedAt(), completedAt).toMinutes()));
+    }
+
+    private void offer(CompletionSample sample) {
+        if (!pendingSamples.offer(sample)) {
+            droppedOnOverflow.incrementAndGet();
+        }
+    }
+
+    private static FlowMetricDto toDto(FlowHistogram histogram) {
+        DurationHistogram buckets = DurationHistogram.decode(histogram.getBuckets());
+        long count = histogram.getSampleCount();
+        long maxMinutes = histogram.getMaxMinutes();
+        return FlowMetricDto.builder()
+                .dimension(histogram.getDimension().name())
+                .key(histogram.getDimensionKey())
+                .count(count)
+                .meanHours(count > 0 ? toHours((double) histogram.getTotalMinutes() / count) : null)
+                .p50Hours(toHours(Math.min(buckets.percentile(50), maxMinutes)))
+                .p85Hours(toHours(Math.min(buckets.percentile(85), maxMinutes)))
+                .p95Hours(toHours(Math.min(buckets.percentile(95), maxMinutes)))
+                .maxHours(toHours(maxMinutes))
+                .build();
+    }
+
+    private static double toHours(double minutes) {
+        return Math.round(minutes / 60.0 * 100.0) / 100.0;
+    }
+
+    private record CompletionSample(Long projectId, Map<FlowDimension, String> dimensions,
+                                    Long cycleMinutes, long leadMinutes) {
+    }
+
+    private record HistogramKey(Long projectId, FlowMetric metric, FlowDimension dimension, String dimensionKey) {
+    }
+
+    private static final class Accumulator {
+        private final DurationHistogram histogram = new DurationHistogram();
+        private long count;
+        private long totalMinutes;
+        private long maxMinutes;
+
+        private void record(long minutes) {
+            long value = Math.max(0, minutes);
+            histogram.record(value);
+            count++;
+            totalMinutes += value;
+            maxMinutes = Math.max(maxMinutes, value);
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package dev.scrumHub.service;
 
+import dev.scrumHub.dto.BacklogItemSummaryDto;
+import dev.scrumHub.dto.BulkBacklogOperationDto;
+import dev.scrumHub.dto.BulkBacklogResponseDto;
+import dev.scrumHub.dto.BulkBacklogResultDto;
 import dev.scrumHub.model.*;
 import dev.scrumHub.repository.*;
+import dev.scrumHub.repository.projection.BacklogRankView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +30,14 @@ public class ProductBacklogService {
     private final UserRepository userRepository;
     private final EpicRepository epicRepository;
     private final TaskRepository taskRepository;
+    private final SprintRepository sprintRepository;
+    private final TaskService taskService;
+    private final StatsCounterService statsCounterService;
+    private final TaskTransitionRecorder transitionRecorder;
+    private final TaskTagClassifier tagClassifier;
+    private final JdbcTemplate jdbcTemplate;
+    private final EpicProgressCache epicProgressCache;
+    private final ReleaseProgressService releaseProgressService;
 
     public List<ProductBacklogItem> getProductBacklog(Long projectId) {
         return backlogItemRepository.findProductBacklogByProjectIdOrderByPriority(projectId);
@@ -35,6 +51,24 @@ public class ProductBacklogService {
         return backlogItemRepository.findReadyItemsByProjectIdOrderByPriority(projectId);
     }
 
+    @Transactional(readOnly = true)
+    public List<BacklogItemSummaryDto> getReadyItemSummaries(Long projectId, int limit) {
+        return backlogItemRepository.findReadyItemsByProjectId(projectId, PageRequest.of(0, limit)).stream()
+                .map(item -> BacklogItemSummaryDto.builder()
+                        .id(item.getId())
+                        .title(item.getTitle())
+                        .type(item.getType())
+                        .status(item.getStatus())
+                        .priority(item.getPriority())
+                        .storyPoints(item.getStoryPoints())
+                        .businessValue(item.getBusinessValue())
+                        .epicId(item.getEpic() != null ? item.getEpic().getId() : null)
+                        .createdAt(item.getCreatedAt())
+                        .updatedAt(item.getUpdatedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     public List<ProductBacklogItem> getItemsNeedingRefinement(Long projectId) {
         return backlogItemRepository.findItemsNeedingRefinementByProjectId(projectId);
     }
@@ -62,11 +96,13 @@ public class ProductBacklogService {
                 .status(ProductBacklogItem.BacklogStatus.NEW)
                 .priority(ProductBacklogItem.BacklogPriority.MEDIUM)
                 .backlogPriorityOrder(nextPriorityOrder)
+                .backlogRank(nextRank(projectId))
                 .project(project)
                 .epic(epic)
                 .createdBy(currentUser)
                 .build();
 
+        epicProgressCache.invalidate(projectId);
         return backlogItemRepository.save(item);
     }
 
@@ -85,9 +121,15 @@ public class ProductBacklogService {
         if (title != null) item.setTitle(title);
         if (description != null) item.setDescription(description);
         if (acceptanceCriteria != null) item.setAcceptanceCriteria(acceptanceCriteria);
-        if (storyPoints != null) item.setStoryPoints(storyPoints);
+        if (storyPoints != null) {
+            item.setStoryPoints(storyPoints);
+            if (item.getRelatedTask() != null && item.getRelatedTask().getSprint() != null) {
+                releaseProgressService.markSprintDirty(item.getRelatedTask().getSprint().getId());
+            }
+        }
         if (priority != null) item.setPriority(priority);
 
+        epicProgressCache.invalidate(item.getProject().getId());
         return backlogItemRepository.save(item);
     }
 
@@ -98,18 +140,115 @@ public class ProductBacklogService {
             throw new RuntimeException("Only Product Owners can reorder the backlog");
         }
 
+        if (itemIdsInOrder == null || itemIdsInOrder.isEmpty()) {
+            return;
+        }
+        if (new HashSet<>(itemIdsInOrder).size() != itemIdsInOrder.size()
+                || backlogItemRepository.countByProjectIdAndIds(projectId, itemIdsInOrder) != itemIdsInOrder.size()) {
+            throw new RuntimeException("Item does not belong to the specified project");
+        }
+        if (backlogItemRepository.countByProjectId(projectId) != itemIdsInOrder.size()) {
+            throw new RuntimeException("Reorder must list every backlog item in the project; use the move endpoint for single items");
+        }
+
+        List<String> ranks = BacklogRank.evenlySpaced(itemIdsInOrder.size());
+        List<Object[]> rows = new ArrayList<>(itemIdsInOrder.size());
         for (int i = 0; i < itemIdsInOrder.size(); i++) {
-            Long itemId = itemIdsInOrder.get(i);
-            ProductBacklogItem item = backlogItemRepository.findById(itemId)
-                    .orElseThrow(() -> new RuntimeException("Backlog item not found with id: " + itemId));
+            rows.add(new Object[]{i + 1, ranks.get(i), itemIdsInOrder.get(i)});
+        }
+        jdbcTemplate.batchUpdate("UPDATE product_backlog_items SET backlog_priority_order = ?, backlog_rank = ?, " +
+                "updated_at = CURRENT_TIMESTAMP WHERE id = ?", rows);
+    }
+
+    public void moveBacklogItem(Long projectId, Long itemId, Long beforeId, Long afterId) {
+        User currentUser = getCurrentUser();
+
+        if (!hasProductOwnerRole(currentUser)) {
+            throw new RuntimeException("Only Product Owners can reorder the backlog");
+        }
+        if (itemId == null) {
+            throw new RuntimeException("itemId is required");
+        }
+        if (beforeId == null && afterId == null) {
+            throw new RuntimeException("beforeId or afterId is required");
+        }
+        if (itemId.equals(beforeId) || itemId.equals(afterId)) {
+            throw new RuntimeException("An item cannot be moved relative to itself");
+        }
+
+        String rank = rankBetween(projectId, itemId, beforeId, afterId);
+        if (rank == null || rank.length() > BacklogRank.MAX_LENGTH) {
+            rebalanceRanks(projectId);
+            rank = rankBetween(projectId, itemId, beforeId, afterId);
+        }
+        if (rank == null) {
+            throw new RuntimeException("The backlog was reordered concurrently. Please retry.");
+        }
+        backlogItemRepository.updateRank(itemId, rank);
+    }
 
-            if (!item.getProject().getId().equals(projectId)) {
-                throw new RuntimeException("Item does not belong to the specified project");
+    public void rebalanceRanks(Long projectId) {
+        List<Long> ids = backlogItemRepository.findIdsByProjectIdInRankOrder(projectId);
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<String> ranks = BacklogRank.evenlySpaced(ids.size());
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            rows.add(new Object[]{ranks.get(i), ids.get(i)});
+        }
+        jdbcTemplate.batchUpdate("UPDATE product_backlog_items SET backlog_rank = ? WHERE id = ?", rows);
+    }
+
+    private String rankBetween(Long projectId, Long itemId, Long beforeId, Long afterId) {
+        List<Long> ids = new ArrayList<>();
+        ids.add(itemId);
+        if (beforeId != null) ids.add(beforeId);
+        if (afterId != null) ids.add(afterId);
+
+        Map<Long, String> ranks = new HashMap<>();
+        for (BacklogRankView view : backlogItemRepository.findRanks(projectId, ids)) {
+            ranks.put(view.getId(), view.getRank());
+        }
+        if (ranks.size() != ids.size()) {
+            throw new RuntimeException("Item does not belong to the specified project");
+        }
+        if (ranks.containsValue(null)) {
+            return null;
+        }
+
+        String lower;
+        String upper;
+        if (beforeId != null) {
+            lower = ranks.get(beforeId);
+            if (isTied(projectId, lower, itemId)) {
+                return null;
             }
+            upper = backlogItemRepository.findNextRank(projectId, lower, itemId).orElse(null);
+            if (afterId != null && !ranks.get(afterId).equals(upper)) {
+                throw new RuntimeException("beforeId and afterId must be adjacent backlog items");
+            }
+        } else {
+            upper = ranks.get(afterId);
+            lower = backlogItemRepository.findPreviousRank(projectId, upper, itemId).orElse(null);
+        }
+        if (isTied(projectId, lower, itemId) || isTied(projectId, upper, itemId)) {
+            return null;
+        }
+        return BacklogRank.between(lower, upper);
+    }
+
+    private boolean isTied(Long projectId, String rank, Long itemId) {
+        return rank != null && backlogItemRepository.countByProjectIdAndRank(projectId, rank, itemId) > 1;
+    }
 
-            item.setBacklogPriorityOrder(i + 1);
-            backlogItemRepository.save(item);
+    private String nextRank(Long projectId) {
+        String rank = BacklogRank.after(backlogItemRepository.findMaxRankByProjectId(projectId).orElse(null));
+        if (rank == null) {
+            rebalanceRanks(projectId);
+            rank = BacklogRank.after(backlogItemRepository.findMaxRankByProjectId(projectId).orElse(null));
         }
+        return rank;
     }
 
     public Task moveItemToSprint(Long itemId, Long sprintId) {
@@ -122,31 +261,160 @@ public class ProductBacklogService {
             throw new RuntimeException("Item is not ready for sprint. Please ensure it has story points and acceptance criteria.");
         }
 
-        Task task = Task.builder()
-                .title(item.getTitle())
-                .description(item.getDescription())
-                .acceptanceCriteria(item.getAcceptanceCriteria())
-                .type(convertBacklogTypeToTaskType(item.getType()))
-                .priority(convertBacklogPriorityToTaskPriority(item.getPriority()))
-                .status(Task.TaskStatus.TO_DO)
-                .estimatedHours(item.getEstimatedHours() != null ? item.getEstimatedHours().intValue() : null)
-                .project(item.getProject())
-                .createdBy(currentUser)
-                .build();
-
+        Sprint sprint = null;
         if (sprintId != null) {
+            sprint = sprintRepository.findById(sprintId)
+                    .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
+            if (!sprint.getProject().getId().equals(item.getProject().getId())) {
+                throw new RuntimeException("Sprint and backlog item must belong to the same project");
+            }
         }
 
-        Task savedTask = taskRepository.save(task);
+        Task savedTask = taskRepository.save(buildTask(item, sprint, currentUser));
+        taskCreated(savedTask, currentUser);
 
         item.setStatus(ProductBacklogItem.BacklogStatus.IN_SPRINT);
         item.setRelatedTask(savedTask);
         item.moveToSprint();
         backlogItemRepository.save(item);
+        epicProgressCache.invalidate(item.getProject().getId());
 
         return savedTask;
     }
 
+    public BulkBacklogResponseDto applyBulkOperations(List<BulkBacklogOperationDto> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new RuntimeException("At least one operation is required");
+        }
+        User currentUser = getCurrentUser();
+
+        Set<Long> itemIds = new HashSet<>();
+        Set<Long> epicIds = new HashSet<>();
+        Set<Long> sprintIds = new HashSet<>();
+        for (BulkBacklogOperationDto operation : operations) {
+            if (operation.getItemId() != null) itemIds.add(operation.getItemId());
+            if (operation.getEpicId() != null) epicIds.add(operation.getEpicId());
+            if (operation.getSprintId() != null) sprintIds.add(operation.getSprintId());
+        }
+        Map<Long, ProductBacklogItem> items = itemIds.isEmpty() ? Map.of() : backlogItemRepository.findAllByIdWithRelatedTask(itemIds).stream()
+                .collect(Collectors.toMap(ProductBacklogItem::getId, Function.identity()));
+        Map<Long, Epic> epics = epicIds.isEmpty() ? Map.of() : epicRepository.findAllById(epicIds).stream()
+                .collect(Collectors.toMap(Epic::getId, Function.identity()));
+        Map<Long, Sprint> sprints = sprintIds.isEmpty() ? Map.of() : sprintRepository.findAllById(sprintIds).stream()
+                .collect(Collectors.toMap(Sprint::getId, Function.identity()));
+
+        List<BulkBacklogResultDto> results = new ArrayList<>(operations.size());
+        List<Object[]> readyRows = new ArrayList<>();
+        List<Object[]> priorityRows = new ArrayList<>();
+        List<Object[]> epicRows = new ArrayList<>();
+        List<Object[]> deleteRows = new ArrayList<>();
+        List<BulkBacklogResultDto> movedResults = new ArrayList<>();
+        List<Task> movedTasks = new ArrayList<>();
+        Set<Long> dirtySprintIds = new HashSet<>();
+        Set<Long> seen = new HashSet<>();
+
+        for (BulkBacklogOperationDto operation : operations) {
+            BulkBacklogResultDto result = BulkBacklogResultDto.builder()
+                    .itemId(operation.getItemId())
+                    .operation(operation.getOperation())
+                    .success(true)
+                    .build();
+            results.add(result);
+            try {
+                BulkOperation type = parseBulkOperation(operation.getOperation());
+                ProductBacklogItem item = items.get(operation.getItemId());
+                if (item == null) {
+                    throw new RuntimeException("Backlog item not found with id: " + operation.getItemId());
+                }
+                if (!seen.add(item.getId())) {
+                    throw new RuntimeException("Only one operation per item is allowed");
+                }
+                if (!hasProductOwnerRole(currentUser) && !item.getCreatedBy().getId().equals(currentUser.getId())) {
+                    throw new RuntimeException("You don't have permission to modify this backlog item");
+                }
+                switch (type) {
+                    case MARK_READY -> {
+                        if (item.needsRefinement()) {
+                            throw new RuntimeException("Cannot mark as ready - item needs refinement");
+                        }
+                        readyRows.add(new Object[]{ProductBacklogItem.BacklogStatus.READY.name(), item.getId()});
+                    }
+                    case SET_PRIORITY -> priorityRows.add(new Object[]{parsePriority(operation.getPriority()).name(), item.getId()});
+                    case ASSIGN_EPIC -> {
+                        if (operation.getEpicId() != null) {
+                            Epic epic = epics.get(operation.getEpicId());
+                            if (epic == null) {
+                                throw new RuntimeException("Epic not found with id: " + operation.getEpicId());
+                            }
+                            if (!epic.getProject().getId().equals(item.getProject().getId())) {
+                                throw new RuntimeException("Epic and backlog item must belong to the same project");
+                            }
+                        }
+                        epicRows.add(new Object[]{operation.getEpicId(), item.getId()});
+                    }
+                    case MOVE_TO_SPRINT -> {
+                        if (!item.isReadyForSprint()) {
+                            throw new RuntimeException("Item is not ready for sprint. Please ensure it has story points and acceptance criteria.");
+                        }
+                        Sprint sprint = null;
+                        if (operation.getSprintId() != null) {
+                            sprint = sprints.get(operation.getSprintId());
+                            if (sprint == null) {
+                                throw new RuntimeException("Sprint not found with id: " + operation.getSprintId());
+                            }
+                            if (!sprint.getProject().getId().equals(item.getProject().getId())) {
+                                throw new RuntimeException("Sprint and backlog item must belong to the same project");
+                            }
+                        }
+                        movedResults.add(result);
+                        movedTasks.add(buildTask(item, sprint, currentUser));
+                    }
+                    case DELETE -> {
+                        deleteRows.add(new Object[]{item.getId()});
+                        if (item.getRelatedTask() != null && item.getRelatedTask().getSprint() != null) {
+                            dirtySprintIds.add(item.getRelatedTask().getSprint().getId());
+                        }
+                    }
+                }
+            } catch (RuntimeException e) {
+                result.setSuccess(false);
+                result.setError(e.getMessage());
+            }
+        }
+
+        jdbcTemplate.batchUpdate("UPDATE product_backlog_items SET status = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?", readyRows);
+        jdbcTemplate.batchUpdate("UPDATE product_backlog_items SET priority = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?", priorityRows);
+        jdbcTemplate.batchUpdate("UPDATE product_backlog_items SET epic_id = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?", epicRows);
+
+        if (!movedTasks.isEmpty()) {
+            List<Task> savedTasks = taskRepository.saveAll(movedTasks);
+            List<Object[]> moveRows = new ArrayList<>(savedTasks.size());
+            for (int i = 0; i < savedTasks.size(); i++) {
+                Task savedTask = savedTasks.get(i);
+                BulkBacklogResultDto result = movedResults.get(i);
+                result.setTaskId(savedTask.getId());
+                moveRows.add(new Object[]{ProductBacklogItem.BacklogStatus.IN_SPRINT.name(), savedTask.getId(), result.getItemId()});
+                taskCreated(savedTask, currentUser);
+            }
+            jdbcTemplate.batchUpdate("UPDATE product_backlog_items SET status = ?, related_task_id = ?, " +
+                    "moved_to_sprint_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP WHERE id = ?", moveRows);
+        }
+
+        jdbcTemplate.batchUpdate("DELETE FROM product_backlog_items WHERE id = ?", deleteRows);
+        dirtySprintIds.forEach(releaseProgressService::markSprintDirty);
+        items.values().stream()
+                .map(item -> item.getProject().getId())
+                .distinct()
+                .forEach(epicProgressCache::invalidate);
+
+        int succeeded = (int) results.stream().filter(BulkBacklogResultDto::isSuccess).count();
+        return BulkBacklogResponseDto.builder()
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
     public ProductBacklogItem markAsReady(Long itemId) {
         ProductBacklogItem item = backlogItemRepository.findById(itemId)
                 .orElseThrow(() -> new RuntimeException("Backlog item not found with id: " + itemId));
@@ -158,6 +426,7 @@ public class ProductBacklogService {
         }
 
         item.markAsReady();
+        epicProgressCache.invalidate(item.getProject().getId());
         return backlogItemRepository.save(item);
     }
 
@@ -176,6 +445,7 @@ public class ProductBacklogService {
         }
 
         item.setEpic(epic);
+        epicProgressCache.invalidate(item.getProject().getId());
         return backlogItemRepository.save(item);
     }
 
@@ -189,6 +459,9 @@ public class ProductBacklogService {
 
     public BacklogStatistics getBacklogStatistics(Long projectId) {
         Object[] stats = backlogItemRepository.getBacklogStatisticsByProjectId(projectId);
+        if (stats.length == 1 && stats[0] instanceof Object[] row) {
+            stats = row;
+        }
 
         if (stats.length > 0 && stats[0] != null) {
             return BacklogStatistics.builder()
@@ -214,6 +487,10 @@ public class ProductBacklogService {
         }
 
         backlogItemRepository.delete(item);
+        if (item.getRelatedTask() != null && item.getRelatedTask().getSprint() != null) {
+            releaseProgressService.markSprintDirty(item.getRelatedTask().getSprint().getId());
+        }
+        epicProgressCache.invalidate(item.getProject().getId());
     }
 
 
@@ -224,6 +501,50 @@ public class ProductBacklogService {
                 .orElseThrow(() -> new RuntimeException("Current user not found"));
     }
 
+    private Task buildTask(ProductBacklogItem item, Sprint sprint, User currentUser) {
+        return Task.builder()
+                .title(item.getTitle())
+                .description(item.getDescription())
+                .acceptanceCriteria(item.getAcceptanceCriteria())
+                .type(convertBacklogTypeToTaskType(item.getType()))
+                .priority(convertBacklogPriorityToTaskPriority(item.getPriority()))
+                .status(Task.TaskStatus.TO_DO)
+                .estimatedHours(item.getEstimatedHours() != null ? item.getEstimatedHours().intValue() : null)
+                .tagMask(tagClassifier.classify(item.getTitle(), item.getDescription()))
+                .project(item.getProject())
+                .sprint(sprint)
+                .createdBy(currentUser)
+                .build();
+    }
+
+    private void taskCreated(Task task, User currentUser) {
+        statsCounterService.taskCreated(task);
+        transitionRecorder.record(task, null, currentUser.getId());
+        taskService.publishTaskChange(task);
+    }
+
+    private BulkOperation parseBulkOperation(String operation) {
+        if (operation == null || operation.isBlank()) {
+            throw new RuntimeException("Operation is required");
+        }
+        try {
+            return BulkOperation.valueOf(operation.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid operation: " + operation);
+        }
+    }
+
+    private ProductBacklogItem.BacklogPriority parsePriority(String priority) {
+        if (priority == null || priority.isBlank()) {
+            throw new RuntimeException("Priority is required");
+        }
+        try {
+            return ProductBacklogItem.BacklogPriority.valueOf(priority.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid priority: " + priority);
+        }
+    }
+
     private boolean hasProductOwnerRole(User user) {
         return user.getRole() == User.UserRole.PRODUCT_OWNER;
     }
@@ -249,6 +570,14 @@ public class ProductBacklogService {
         };
     }
 
+    public enum BulkOperation {
+        MARK_READY,
+        SET_PRIORITY,
+        ASSIGN_EPIC,
+        MOVE_TO_SPRINT,
+        DELETE
+    }
+
     @lombok.Data
     @lombok.Builder
     public static class BacklogStatistics {
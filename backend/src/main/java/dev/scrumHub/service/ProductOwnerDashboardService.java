@@ -0,0 +1,121 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.dto.ProductOwnerDashboardDto;
+import dev.scrumHub.repository.ProjectRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+@Service
+public class ProductOwnerDashboardService {
+
+    private final ProductBacklogService productBacklogService;
+    private final EpicService epicService;
+    private final ReleaseService releaseService;
+    private final ProjectRepository projectRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final Semaphore querySlots;
+    private final long timeoutMillis;
+    private final int recentLimit;
+    private final int upcomingDays;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("po-dashboard-", 0).factory());
+
+    public ProductOwnerDashboardService(ProductBacklogService productBacklogService,
+                                        EpicService epicService,
+                                        ReleaseService releaseService,
+                                        ProjectRepository projectRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${app.po-dashboard.max-concurrent-queries:4}") int maxConcurrentQueries,
+                                        @Value("${app.po-dashboard.timeout-millis:2000}") long timeoutMillis,
+                                        @Value("${app.po-dashboard.recent-limit:10}") int recentLimit,
+                                        @Value("${app.po-dashboard.upcoming-days:30}") int upcomingDays) {
+        this.productBacklogService = productBacklogService;
+        this.epicService = epicService;
+        this.releaseService = releaseService;
+        this.projectRepository = projectRepository;
+        this.transactionManager = transactionManager;
+        this.querySlots = new Semaphore(Math.max(1, maxConcurrentQueries), true);
+        this.timeoutMillis = timeoutMillis;
+        this.recentLimit = recentLimit;
+        this.upcomingDays = upcomingDays;
+    }
+
+    public ProductOwnerDashboardDto getDashboard(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found with id: " + projectId);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        var backlogStats = submit(() -> productBacklogService.getBacklogStatistics(projectId), deadline);
+        var epicStats = submit(() -> epicService.getEpicStatistics(projectId), deadline);
+        var releaseStats = submit(() -> releaseService.getReleaseStatistics(projectId), deadline);
+        var recentItems = submit(() -> productBacklogService.getReadyItemSummaries(projectId, recentLimit), deadline);
+        var recentEpics = submit(() -> epicService.getActiveEpics(projectId, recentLimit), deadline);
+        var upcomingReleases = submit(() -> releaseService.getUpcomingReleases(projectId, upcomingDays), deadline);
+
+        List<String> unavailable = new ArrayList<>();
+        return ProductOwnerDashboardDto.builder()
+                .projectId(projectId)
+                .backlogStats(await(backlogStats, "backlogStats", deadline, unavailable))
+                .epicStats(await(epicStats, "epicStats", deadline, unavailable))
+                .releaseStats(await(releaseStats, "releaseStats", deadline, unavailable))
+                .recentItems(orEmpty(await(recentItems, "recentItems", deadline, unavailable)))
+                .recentEpics(orEmpty(await(recentEpics, "recentEpics", deadline, unavailable)))
+                .upcomingReleases(orEmpty(await(upcomingReleases, "upcomingReleases", deadline, unavailable)))
+                .unavailableSections(unavailable)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> submit(Supplier<T> section, long deadline) {
+        return executor.submit(() -> {
+            if (!querySlots.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                throw new RuntimeException("No database connection slot became available in time");
+            }
+            try {
+                TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+                transaction.setTimeout(remainingSeconds(deadline));
+                return transaction.execute(status -> section.get());
+            } finally {
+                querySlots.release();
+            }
+        });
+    }
+
+    private static int remainingSeconds(long deadline) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(Math.max(0, deadline - System.nanoTime()));
+        return (int) Math.max(1, (remainingMillis + 999) / 1000);
+    }
+
+    private static <T> T await(Future<T> future, String section, long deadline, List<String> unavailable) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            System.err.println("Warning: Dashboard section " + section + " timed out");
+        } catch (ExecutionException e) {
+            System.err.println("Warning: Dashboard section " + section + " failed: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+        unavailable.add(section);
+        return null;
+    }
+
+    private static <T> List<T> orEmpty(List<T> values) {
+        return values != null ? values : List.of();
+    }
+}
@@ -0,0 +1,366 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.dto.ProjectDeletionJobDto;
+import dev.scrumHub.model.PendingFileDeletion;
+import dev.scrumHub.model.Project;
+import dev.scrumHub.model.ProjectDeletionJob;
+import dev.scrumHub.model.ProjectDeletionJob.DeletionPhase;
+import dev.scrumHub.model.ProjectDeletionJob.DeletionStatus;
+import dev.scrumHub.repository.PendingFileDeletionRepository;
+import dev.scrumHub.repository.ProjectDeletionJobRepository;
+import dev.scrumHub.repository.ProjectRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+@Service
+public class ProjectDeletionService {
+
+    private static final List<DeletionStatus> OPEN_STATUSES = List.of(DeletionStatus.PENDING, DeletionStatus.RUNNING);
+
+    private final ProjectDeletionJobRepository jobRepository;
+    private final ProjectRepository projectRepository;
+    private final PendingFileDeletionRepository pendingFileRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StatsCounterService statsCounterService;
+    private final BoardCache boardCache;
+    private final EpicProgressCache epicProgressCache;
+    private final int chunkSize;
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(daemonThreads("project-deletion"));
+    private final ExecutorService fileExecutor = Executors.newSingleThreadExecutor(daemonThreads("project-deletion-files"));
+
+    public ProjectDeletionService(ProjectDeletionJobRepository jobRepository,
+                                  ProjectRepository projectRepository,
+                                  PendingFileDeletionRepository pendingFileRepository,
+                                  NamedParameterJdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  StatsCounterService statsCounterService,
+                                  BoardCache boardCache,
+                                  EpicProgressCache epicProgressCache,
+                                  @Value("${app.project-deletion.chunk-size:500}") int chunkSize) {
+        this.jobRepository = jobRepository;
+        this.projectRepository = projectRepository;
+        this.pendingFileRepository = pendingFileRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.statsCounterService = statsCounterService;
+        this.boardCache = boardCache;
+        this.epicProgressCache = epicProgressCache;
+        this.chunkSize = chunkSize;
+    }
+
+    @Transactional
+    public ProjectDeletionJobDto requestDeletion(Long projectId, Long requestedBy) {
+        Project project = projectRepository.findForUpdate(projectId)
+                .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
+        if (jobRepository.existsByProjectIdAndStatusIn(projectId, OPEN_STATUSES)) {
+            throw new IllegalStateException("A hard delete is already in progress for project " + projectId);
+        }
+
+        project.setActive(false);
+        projectRepository.save(project);
+
+        ProjectDeletionJob job = jobRepository.save(ProjectDeletionJob.builder()
+                .projectId(projectId)
+                .projectName(project.getName())
+                .requestedBy(requestedBy)
+                .build());
+
+        Long jobId = job.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(jobId);
+            }
+        });
+        return convertToDto(job);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ProjectDeletionJobDto> getLatestJob(Long projectId) {
+        return jobRepository.findFirstByProjectIdOrderByIdDesc(projectId).map(this::convertToDto);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        for (Long jobId : pendingFileRepository.findJobIds()) {
+            submitFileCleanup(jobId);
+        }
+        for (ProjectDeletionJob job : jobRepository.findByStatusInOrderById(OPEN_STATUSES)) {
+            submit(job.getId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        fileExecutor.shutdownNow();
+    }
+
+    private void submit(Long jobId) {
+        jobExecutor.execute(() -> run(jobId));
+    }
+
+    private void submitFileCleanup(Long jobId) {
+        fileExecutor.execute(() -> {
+            try {
+                deleteQueuedFiles(jobId);
+            } catch (RuntimeException e) {
+                System.err.println("Warning: Attachment cleanup for hard delete job " + jobId + " failed: " + e.getMessage());
+            }
+        });
+    }
+
+    private void run(Long jobId) {
+        ProjectDeletionJob job = transactionTemplate.execute(status -> {
+            ProjectDeletionJob current = jobRepository.findById(jobId).orElse(null);
+            if (current != null && OPEN_STATUSES.contains(current.getStatus())) {
+                current.setStatus(DeletionStatus.RUNNING);
+                current.setLastError(null);
+            }
+            return current;
+        });
+        if (job == null || job.getStatus() != DeletionStatus.RUNNING) {
+            return;
+        }
+
+        Long projectId = job.getProjectId();
+        try {
+            DeletionPhase[] phases = DeletionPhase.values();
+            for (int i = job.getPhase().ordinal(); i < phases.length; i++) {
+                DeletionPhase phase = phases[i];
+                DeletionPhase nextPhase = i + 1 < phases.length ? phases[i + 1] : phase;
+                boolean done = false;
+                while (!done && !Thread.currentThread().isInterrupted()) {
+                    ChunkResult result = transactionTemplate.execute(status -> {
+                        ChunkResult chunk = deleteChunk(phase, jobId, projectId);
+                        ProjectDeletionJob current = jobRepository.findById(jobId).orElseThrow();
+                        current.setRowsDeleted(current.getRowsDeleted() + chunk.rows());
+                        current.setPhase(chunk.done() ? nextPhase : phase);
+                        return chunk;
+                    });
+                    if (result.files() > 0) {
+                        submitFileCleanup(jobId);
+                    }
+                    done = result.done();
+                }
+                if (!done) {
+                    return;
+                }
+            }
+
+            boardCache.invalidate(projectId);
+            epicProgressCache.invalidate(projectId);
+            transactionTemplate.executeWithoutResult(status -> {
+                ProjectDeletionJob current = jobRepository.findById(jobId).orElseThrow();
+                current.setStatus(DeletionStatus.COMPLETED);
+                current.setCompletedAt(LocalDateTime.now());
+            });
+        } catch (RuntimeException e) {
+            System.err.println("Warning: Hard delete of project " + projectId + " failed: " + e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(current -> {
+                current.setStatus(DeletionStatus.FAILED);
+                current.setLastError(truncate(e.getMessage()));
+            }));
+        }
+    }
+
+    private ChunkResult deleteChunk(DeletionPhase phase, Long jobId, Long projectId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("limit", chunkSize);
+
+        switch (phase) {
+            case ATTACHMENTS: {
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                        "SELECT a.id AS id, a.file_path AS file_path FROM comment_attachments a " +
+                                "JOIN task_comments c ON a.comment_id = c.id JOIN tasks t ON c.task_id = t.id " +
+                                "WHERE t.project_id = :projectId ORDER BY a.id LIMIT :limit", params);
+                List<Long> ids = new ArrayList<>();
+                List<PendingFileDeletion> files = new ArrayList<>();
+                for (Map<String, Object> row : rows) {
+                    ids.add(((Number) row.get("id")).longValue());
+                    String filePath = (String) row.get("file_path");
+                    if (filePath != null) {
+                        files.add(PendingFileDeletion.builder().jobId(jobId).filePath(filePath).build());
+                    }
+                }
+                // Paths are queued in the same transaction as the row delete and removed from disk after commit.
+                pendingFileRepository.saveAll(files);
+                if (!ids.isEmpty()) {
+                    jdbcTemplate.update("DELETE FROM comment_attachments WHERE id IN (:ids)", Map.of("ids", ids));
+                }
+                return new ChunkResult(ids.size(), ids.size() < chunkSize, files.size());
+            }
+            case COMMENTS:
+                return deleteByIds(params,
+                        "SELECT c.id FROM task_comments c JOIN tasks t ON c.task_id = t.id " +
+                                "WHERE t.project_id = :projectId ORDER BY c.id LIMIT :limit",
+                        "UPDATE task_comments SET parent_comment_id = NULL WHERE parent_comment_id IN (:ids)",
+                        "DELETE FROM task_comments WHERE id IN (:ids)");
+            case BACKLOG_ITEMS:
+                return deleteByIds(params,
+                        "SELECT id FROM product_backlog_items WHERE project_id = :projectId ORDER BY id LIMIT :limit",
+                        "DELETE FROM product_backlog_items WHERE id IN (:ids)");
+            case TASKS:
+                return deleteByIds(params,
+                        "SELECT id FROM tasks WHERE project_id = :projectId ORDER BY id LIMIT :limit",
+                        "UPDATE product_backlog_items SET related_task_id = NULL WHERE related_task_id IN (:ids)",
+                        "DELETE FROM tasks WHERE id IN (:ids)");
+            case SPRINTS:
+                return deleteByIds(params,
+                        "SELECT id FROM sprints WHERE project_id = :projectId ORDER BY id LIMIT :limit",
+                        "UPDATE tasks SET sprint_id = NULL WHERE sprint_id IN (:ids)",
+                        "DELETE FROM sprint_stats WHERE sprint_id IN (:ids)",
+                        "DELETE FROM sprint_snapshots WHERE sprint_id IN (:ids)",
+                        "DELETE FROM sprint_velocities WHERE sprint_id IN (:ids)",
+                        "DELETE FROM flow_snapshots WHERE scope = 'SPRINT' AND scope_id IN (:ids)",
+                        "DELETE FROM sprints WHERE id IN (:ids)");
+            case RELEASES:
+                return deleteByIds(params,
+                        "SELECT id FROM releases WHERE project_id = :projectId ORDER BY id LIMIT :limit",
+                        "UPDATE sprints SET release_id = NULL WHERE release_id IN (:ids)",
+                        "DELETE FROM releases WHERE id IN (:ids)");
+            case EPICS:
+                return deleteByIds(params,
+                        "SELECT id FROM epics WHERE project_id = :projectId ORDER BY id LIMIT :limit",
+                        "UPDATE product_backlog_items SET epic_id = NULL WHERE epic_id IN (:ids)",
+                        "DELETE FROM epics WHERE id IN (:ids)");
+            case MEMBERS: {
+                int rows = jdbcTemplate.update("DELETE FROM user_projects WHERE project_id = :projectId", params);
+                return new ChunkResult(rows, true, 0);
+            }
+            case ANALYTICS: {
+                ChunkResult transitions = deleteByIds(params,
+                        "SELECT id FROM task_transitions WHERE project_id = :projectId ORDER BY id LIMIT :limit",
+                        "DELETE FROM task_transitions WHERE id IN (:ids)");
+                if (!transitions.done()) {
+                    return transitions;
+                }
+                ChunkResult tombstones = deleteByIds(params,
+                        "SELECT id FROM task_tombstones WHERE project_id = :projectId ORDER BY id LIMIT :limit",
+                        "DELETE FROM task_tombstones WHERE id IN (:ids)");
+                if (!tombstones.done()) {
+                    return new ChunkResult(transitions.rows() + tombstones.rows(), false, 0);
+                }
+                int rows = transitions.rows() + tombstones.rows();
+                rows += jdbcTemplate.update("DELETE FROM flow_snapshots WHERE scope = 'PROJECT' AND scope_id = :projectId", params);
+                rows += jdbcTemplate.update("DELETE FROM flow_histograms WHERE project_id = :projectId", params);
+                rows += jdbcTemplate.update("DELETE FROM sprint_velocities WHERE project_id = :projectId", params);
+                rows += jdbcTemplate.update("DELETE FROM release_progress WHERE project_id = :projectId", params);
+                statsCounterService.projectDeleted(projectId);
+                return new ChunkResult(rows, true, 0);
+            }
+            case PROJECT: {
+                jdbcTemplate.queryForList("SELECT id FROM projects WHERE id = :projectId FOR UPDATE", params, Long.class);
+                int rows = 0;
+                long files = 0;
+                for (DeletionPhase earlier : DeletionPhase.values()) {
+                    if (earlier == DeletionPhase.PROJECT) {
+                        break;
+                    }
+                    ChunkResult chunk;
+                    do {
+                        chunk = deleteChunk(earlier, jobId, projectId);
+                        rows += chunk.rows();
+                        files += chunk.files();
+                    } while (!chunk.done());
+                }
+                rows += jdbcTemplate.update("DELETE FROM projects WHERE id = :projectId", params);
+                return new ChunkResult(rows, true, files);
+            }
+            default:
+                throw new IllegalStateException("Unknown deletion phase: " + phase);
+        }
+    }
+
+    private ChunkResult deleteByIds(MapSqlParameterSource params, String selectSql, String... statements) {
+        List<Long> ids = jdbcTemplate.queryForList(selectSql, params, Long.class);
+        if (!ids.isEmpty()) {
+            Map<String, Object> idParams = Map.of("ids", ids);
+            for (String statement : statements) {
+                jdbcTemplate.update(statement, idParams);
+            }
+        }
+        return new ChunkResult(ids.size(), ids.size() < chunkSize, 0);
+    }
+
+    private void deleteQueuedFiles(Long jobId) {
+        List<PendingFileDeletion> batch;
+        while (!Thread.currentThread().isInterrupted()
+                && !(batch = pendingFileRepository.findByJobId(jobId, PageRequest.of(0, chunkSize))).isEmpty()) {
+            long deleted = 0;
+            for (PendingFileDeletion pending : batch) {
+                try {
+                    if (Files.deleteIfExists(Paths.get(pending.getFilePath()))) {
+                        deleted++;
+                    }
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("Warning: Could not delete attachment file " + pending.getFilePath() + ": " + e.getMessage());
+                }
+            }
+            long filesDeleted = deleted;
+            List<PendingFileDeletion> processed = batch;
+            transactionTemplate.executeWithoutResult(status -> {
+                pendingFileRepository.deleteAllInBatch(processed);
+                jobRepository.incrementFilesDeleted(jobId, filesDeleted);
+            });
+        }
+    }
+
+    private ProjectDeletionJobDto convertToDto(ProjectDeletionJob job) {
+        return ProjectDeletionJobDto.builder()
+                .id(job.getId())
+                .projectId(job.getProjectId())
+                .projectName(job.getProjectName())
+                .status(job.getStatus().name())
+                .phase(job.getPhase().name())
+                .rowsDeleted(job.getRowsDeleted())
+                .filesDeleted(job.getFilesDeleted())
+                .lastError(job.getLastError())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record ChunkResult(int rows, boolean done, long files) {
+    }
+}
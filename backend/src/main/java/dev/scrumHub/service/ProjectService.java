@@ -1,9 +1,12 @@
 package dev.scrumHub.service;
 
 import dev.scrumHub.dto.CreateProjectRequestDto;
+import dev.scrumHub.dto.ProjectDeletionJobDto;
 import dev.scrumHub.dto.ProjectDto;
 import dev.scrumHub.dto.ProjectResponseDto;
+import dev.scrumHub.dto.SprintResponseDto;
 import dev.scrumHub.model.Project;
+import dev.scrumHub.model.ProjectStats;
 import dev.scrumHub.model.Sprint;
 import dev.scrumHub.model.Task;
 import dev.scrumHub.model.Task.TaskStatus;
@@ -15,13 +18,19 @@ import dev.scrumHub.repository.UserProjectRepository;
 import dev.scrumHub.repository.SprintRepository;
 import dev.scrumHub.repository.TaskRepository;
 import dev.scrumHub.repository.UserRepository;
+import dev.scrumHub.repository.projection.CountView;
+import dev.scrumHub.repository.projection.ProgressCountView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -36,6 +45,8 @@ public class ProjectService {
     private final UserRepository userRepository;
     private final UserProjectRepository userProjectRepository;
     private final SprintService sprintService;
+    private final StatsCounterService statsCounterService;
+    private final ProjectDeletionService projectDeletionService;
 
     public List<ProjectDto> getAllActiveProjects() {
         return projectRepository.findByActiveTrue()
@@ -45,34 +56,26 @@ public class ProjectService {
     }
     
     public List<ProjectResponseDto> getAllActiveProjectsWithStats() {
-        return projectRepository.findByActiveTrue()
-                .stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        return convertToResponseDtos(projectRepository.findByActiveTrue());
     }
     
     public List<ProjectResponseDto> getAllProjectsWithStats() {
-        return projectRepository.findAll()
-                .stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        return convertToResponseDtos(projectRepository.findAll());
     }
 
     public List<ProjectResponseDto> getActiveProjectsForUser(Long userId) {
-        List<UserProject> userProjects = userProjectRepository.findActiveByUserId(userId);
-        return userProjects.stream()
+        List<UserProject> userProjects = userProjectRepository.findActiveWithProjectByUserId(userId);
+        return convertToResponseDtos(userProjects.stream()
                 .map(UserProject::getProject)
                 .filter(Project::isActive)
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     public List<ProjectResponseDto> getAllProjectsForUser(Long userId) {
-        List<UserProject> userProjects = userProjectRepository.findByUserId(userId);
-        return userProjects.stream()
+        List<UserProject> userProjects = userProjectRepository.findWithProjectByUserId(userId);
+        return convertToResponseDtos(userProjects.stream()
                 .map(UserProject::getProject)
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     public List<ProjectDto> getAllProjects() {
@@ -107,6 +110,7 @@ public class ProjectService {
         project.setStatus(Project.ProjectStatus.ACTIVE);
         
         Project savedProject = projectRepository.save(project);
+        statsCounterService.projectCreated(savedProject.getId());
         return convertToDto(savedProject);
     }
     
@@ -131,6 +135,7 @@ public class ProjectService {
                 .build();
         
         Project savedProject = projectRepository.save(project);
+        statsCounterService.projectCreated(savedProject.getId());
         return convertToResponseDto(savedProject);
     }
 
@@ -209,11 +214,16 @@ public class ProjectService {
     }
 
     @Transactional
-    public void hardDeleteProject(Long id) {
-        if (!projectRepository.existsById(id)) {
-            throw new RuntimeException("Project not found with id: " + id);
-        }
-        projectRepository.deleteById(id);
+    public ProjectDeletionJobDto hardDeleteProject(Long id) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long requestedBy = authentication == null ? null : userRepository.findByEmail(authentication.getName())
+                .map(User::getId)
+                .orElse(null);
+        return projectDeletionService.requestDeletion(id, requestedBy);
+    }
+
+    public Optional<ProjectDeletionJobDto> getHardDeleteStatus(Long id) {
+        return projectDeletionService.getLatestJob(id);
     }
 
     public boolean existsByName(String name) {
@@ -251,40 +261,69 @@ public class ProjectService {
     }
     
     private ProjectResponseDto convertToResponseDto(Project project) {
-        List<Sprint> sprints = sprintRepository.findByProjectId(project.getId());
-        long totalTasks = taskRepository.countByProjectId(project.getId());
-        long completedTasks = taskRepository.countByProjectIdAndStatus(project.getId(), TaskStatus.DONE);
+        return convertToResponseDtos(List.of(project)).get(0);
+    }
 
-        String status = convertStatusToString(project.getStatus());
+    private List<ProjectResponseDto> convertToResponseDtos(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        long memberCount = userProjectRepository.countByProjectId(project.getId());
-        int sprintCount = (sprints != null) ? sprints.size() : 0;
+        List<Long> projectIds = projects.stream().map(Project::getId).collect(Collectors.toList());
+        Map<Long, ProjectStats> stats = statsCounterService.getProjectStats(projectIds);
 
-        Sprint activeSprint = null;
-        if (sprints != null && !sprints.isEmpty()) {
-            activeSprint = sprints.stream()
-                    .filter(s -> s.getStatus() == Sprint.SprintStatus.ACTIVE)
-                    .findFirst()
-                    .orElse(null);
+        List<Long> missingIds = projectIds.stream().filter(id -> !stats.containsKey(id)).collect(Collectors.toList());
+        if (!missingIds.isEmpty()) {
+            Map<Long, Long> memberCounts = toCountMap(userProjectRepository.countActiveByProjectIds(missingIds));
+            Map<Long, Long> sprintCounts = toCountMap(sprintRepository.countByProjectIds(missingIds));
+            Map<Long, ProgressCountView> taskCounts = new HashMap<>();
+            for (ProgressCountView count : taskRepository.countProgressByProjectIds(missingIds, TaskStatus.DONE)) {
+                taskCounts.put(count.getId(), count);
+            }
+            for (Long projectId : missingIds) {
+                ProgressCountView tasks = taskCounts.get(projectId);
+                ProjectStats live = ProjectStats.builder()
+                        .projectId(projectId)
+                        .memberCount(memberCounts.getOrDefault(projectId, 0L))
+                        .sprintCount(sprintCounts.getOrDefault(projectId, 0L))
+                        .build();
+                live.getCounters().setTotalTasks(tasks != null ? tasks.getTotal() : 0L);
+                live.getCounters().setDone(tasks != null ? tasks.getDone() : 0L);
+                stats.put(projectId, live);
+            }
         }
+        Map<Long, SprintResponseDto> activeSprints = sprintService.getActiveSprintsByProjectIds(projectIds);
+
+        return projects.stream()
+                .map(project -> {
+                    ProjectStats projectStats = stats.get(project.getId());
+                    return ProjectResponseDto.builder()
+                            .id(project.getId())
+                            .name(project.getName())
+                            .description(project.getDescription())
+                            .key(project.getKey())
+                            .startDate(project.getStartDate())
+                            .endDate(project.getEndDate())
+                            .active(project.isActive())
+                            .createdAt(project.getCreatedAt())
+                            .updatedAt(project.getUpdatedAt())
+                            .memberCount((int) projectStats.getMemberCount())
+                            .sprintCount((int) projectStats.getSprintCount())
+                            .completedTasks((int) projectStats.getCounters().getDone())
+                            .totalTasks((int) projectStats.getCounters().getTotalTasks())
+                            .status(convertStatusToString(project.getStatus()))
+                            .activeSprint(activeSprints.get(project.getId()))
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
 
-        return ProjectResponseDto.builder()
-                .id(project.getId())
-                .name(project.getName())
-                .description(project.getDescription())
-                .key(project.getKey())
-                .startDate(project.getStartDate())
-                .endDate(project.getEndDate())
-                .active(project.isActive())
-                .createdAt(project.getCreatedAt())
-                .updatedAt(project.getUpdatedAt())
-                .memberCount((int) memberCount)
-                .sprintCount(sprintCount)
-                .completedTasks((int) completedTasks)
-                .totalTasks((int) totalTasks)
-                .status(status)
-                .activeSprint(activeSprint != null ? sprintService.getSprintById(activeSprint.getId()) : null)
-                .build();
+    private Map<Long, Long> toCountMap(List<CountView> counts) {
+        Map<Long, Long> result = new HashMap<>();
+        for (CountView count : counts) {
+            result.put(count.getId(), count.getCount());
+        }
+        return result;
     }
     
     private String convertStatusToString(Project.ProjectStatus status) {
@@ -347,6 +386,7 @@ public class ProjectService {
                 .build();
 
         userProjectRepository.save(userProject);
+        statsCounterService.memberAdded(userProject);
     }
     
     @Transactional
@@ -363,5 +403,6 @@ public class ProjectService {
         }
 
         userProjectRepository.deleteById(userProjectId);
+        statsCounterService.memberRemoved(userProject);
     }
 }
\ No newline at end of file
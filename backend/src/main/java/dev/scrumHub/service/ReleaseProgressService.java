@@ -0,0 +1,174 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.model.ReleaseProgress;
+import dev.scrumHub.model.Sprint.SprintStatus;
+import dev.scrumHub.model.Task.TaskStatus;
+import dev.scrumHub.repository.ReleaseProgressRepository;
+import dev.scrumHub.repository.ReleaseRepository;
+import dev.scrumHub.repository.SprintRepository;
+import dev.scrumHub.repository.TaskRepository;
+import dev.scrumHub.repository.projection.ReleaseSprintRollupView;
+import dev.scrumHub.repository.projection.ReleaseTaskRollupView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+public class ReleaseProgressService {
+
+    private final ReleaseProgressRepository progressRepository;
+    private final ReleaseRepository releaseRepository;
+    private final SprintRepository sprintRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> dirtySprints = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyReleases = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyProjects = ConcurrentHashMap.newKeySet();
+
+    public void markSprintDirty(Long sprintId) {
+        markDirty(dirtySprints, sprintId);
+    }
+
+    public void markReleaseDirty(Long releaseId) {
+        markDirty(dirtyReleases, releaseId);
+    }
+
+    public void markProjectDirty(Long projectId) {
+        markDirty(dirtyProjects, projectId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingRollups() {
+        try {
+            refresh(releaseRepository.findIdsWithoutProgress());
+        } catch (RuntimeException e) {
+            System.err.println("Warning: Release progress backfill failed: " + e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.release-progress.flush-seconds:30}", timeUnit = TimeUnit.SECONDS)
+    public void flushDirty() {
+        Set<Long> releaseIds = new HashSet<>(drain(dirtyReleases));
+        List<Long> sprintIds = drain(dirtySprints);
+        List<Long> projectIds = drain(dirtyProjects);
+        try {
+            if (!sprintIds.isEmpty()) {
+                releaseIds.addAll(sprintRepository.findReleaseIdsBySprintIds(sprintIds));
+            }
+            if (!projectIds.isEmpty()) {
+                releaseIds.addAll(releaseRepository.findIdsByProjectIds(projectIds));
+            }
+            refresh(releaseIds);
+        } catch (RuntimeException e) {
+            dirtyReleases.addAll(releaseIds);
+            dirtySprints.addAll(sprintIds);
+            dirtyProjects.addAll(projectIds);
+            System.err.println("Warning: Release progress refresh failed, will retry: " + e.getMessage());
+        }
+    }
+
+    public void refresh(Collection<Long> releaseIds) {
+        if (releaseIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Long> projectIds = new HashMap<>();
+            releaseRepository.findAllById(releaseIds)
+                    .forEach(release -> projectIds.put(release.getId(), release.getProject().getId()));
+
+            Map<Long, ReleaseSprintRollupView> sprints = new HashMap<>();
+            for (ReleaseSprintRollupView row : sprintRepository.summarizeByReleaseIds(
+                    projectIds.keySet(), SprintStatus.ACTIVE, SprintStatus.COMPLETED)) {
+                sprints.put(row.getReleaseId(), row);
+            }
+            Map<Long, ReleaseTaskRollupView> tasks = new HashMap<>();
+            for (ReleaseTaskRollupView row : taskRepository.summarizeByReleaseIds(projectIds.keySet(), TaskStatus.DONE)) {
+                tasks.put(row.getReleaseId(), row);
+            }
+            Map<Long, ReleaseProgress> existing = new HashMap<>();
+            for (ReleaseProgress progress : progressRepository.findAllById(releaseIds)) {
+                existing.put(progress.getReleaseId(), progress);
+            }
+
+            List<ReleaseProgress> rollups = new ArrayList<>();
+            for (Map.Entry<Long, Long> release : projectIds.entrySet()) {
+                ReleaseSprintRollupView sprintRow = sprints.get(release.getKey());
+                ReleaseTaskRollupView taskRow = tasks.get(release.getKey());
+                ReleaseProgress progress = existing.getOrDefault(release.getKey(),
+                        ReleaseProgress.builder().releaseId(release.getKey()).build());
+                progress.setProjectId(release.getValue());
+                progress.setTotalSprints(sprintRow != null ? sprintRow.getTotalSprints().intValue() : 0);
+                progress.setActiveSprints(sprintRow != null ? sprintRow.getActiveSprints().intValue() : 0);
+                progress.setCompletedSprints(sprintRow != null ? sprintRow.getCompletedSprints().intValue() : 0);
+                progress.setLatestSprintEndDate(sprintRow != null ? sprintRow.getLatestEndDate() : null);
+                progress.setTotalTasks(taskRow != null ? taskRow.getTotalTasks().intValue() : 0);
+                progress.setCompletedTasks(taskRow != null ? taskRow.getCompletedTasks().intValue() : 0);
+                progress.setTotalStoryPoints(taskRow != null ? taskRow.getTotalStoryPoints().intValue() : 0);
+                progress.setCompletedStoryPoints(taskRow != null ? taskRow.getCompletedStoryPoints().intValue() : 0);
+                progress.setRefreshedAt(now);
+                rollups.add(progress);
+            }
+            progressRepository.saveAll(rollups);
+        });
+    }
+
+    public Map<Long, ReleaseProgress> getProgress(Collection<Long> releaseIds) {
+        Map<Long, ReleaseProgress> progress = new HashMap<>();
+        if (releaseIds.isEmpty()) {
+            return progress;
+        }
+        for (ReleaseProgress rollup : progressRepository.findAllById(releaseIds)) {
+            progress.put(rollup.getReleaseId(), rollup);
+        }
+        return progress;
+    }
+
+    public List<ReleaseProgress> getProjectProgress(Long projectId) {
+        return progressRepository.findByProjectId(projectId);
+    }
+
+    public void removeRelease(Long releaseId) {
+        if (progressRepository.existsById(releaseId)) {
+            progressRepository.deleteById(releaseId);
+        }
+    }
+
+    private void markDirty(Set<Long> dirty, Long id) {
+        if (id == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirty.add(id);
+                }
+            });
+        } else {
+            dirty.add(id);
+        }
+    }
+
+    private static List<Long> drain(Set<Long> dirty) {
+        if (dirty.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(dirty);
+        dirty.removeAll(ids);
+        return ids;
+    }
+}
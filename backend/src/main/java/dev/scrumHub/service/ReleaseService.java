@@ -1,10 +1,14 @@
 package dev.scrumHub.service;
 
+import dev.scrumHub.dto.ReleaseSummaryDto;
 import dev.scrumHub.model.Release;
+import dev.scrumHub.model.ReleaseProgress;
 import dev.scrumHub.model.Project;
+import dev.scrumHub.model.Sprint;
 import dev.scrumHub.model.User;
 import dev.scrumHub.repository.ReleaseRepository;
 import dev.scrumHub.repository.ProjectRepository;
+import dev.scrumHub.repository.SprintRepository;
 import dev.scrumHub.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
@@ -13,8 +17,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,28 +32,30 @@ public class ReleaseService {
     private final ReleaseRepository releaseRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final SprintRepository sprintRepository;
+    private final ReleaseProgressService releaseProgressService;
 
-    public List<Release> getReleasesByProject(Long projectId) {
-        return releaseRepository.findByProjectIdOrderByPlannedReleaseDateDesc(projectId);
+    public List<ReleaseSummaryDto> getReleasesByProject(Long projectId) {
+        return toSummaries(releaseRepository.findByProjectIdOrderByPlannedReleaseDateDesc(projectId));
     }
 
-    public List<Release> getReleasesByStatus(Long projectId, Release.ReleaseStatus status) {
-        return releaseRepository.findByProjectIdAndStatusOrderByPlannedReleaseDate(projectId, status);
+    public List<ReleaseSummaryDto> getReleasesByStatus(Long projectId, Release.ReleaseStatus status) {
+        return toSummaries(releaseRepository.findByProjectIdAndStatusOrderByPlannedReleaseDate(projectId, status));
     }
 
-    public List<Release> getActiveReleases(Long projectId) {
-        return releaseRepository.findActiveReleasesByProjectId(projectId);
+    public List<ReleaseSummaryDto> getActiveReleases(Long projectId) {
+        return toSummaries(releaseRepository.findActiveReleasesByProjectId(projectId));
     }
 
-    public Optional<Release> getCurrentRelease(Long projectId) {
-        return releaseRepository.findCurrentReleaseByProjectId(projectId);
+    public Optional<ReleaseSummaryDto> getCurrentRelease(Long projectId) {
+        return releaseRepository.findCurrentReleaseByProjectId(projectId).map(this::toSummary);
     }
 
-    public Optional<Release> getNextPlannedRelease(Long projectId) {
-        return releaseRepository.findNextPlannedReleaseByProjectId(projectId);
+    public Optional<ReleaseSummaryDto> getNextPlannedRelease(Long projectId) {
+        return releaseRepository.findNextPlannedReleaseByProjectId(projectId).map(this::toSummary);
     }
 
-    public Release createRelease(Long projectId, String name, String description, String versionNumber,
+    public ReleaseSummaryDto createRelease(Long projectId, String name, String description, String versionNumber,
                                Release.ReleasePriority priority, LocalDateTime plannedStartDate,
                                LocalDateTime plannedReleaseDate, Integer targetStoryPoints, String goals) {
         Project project = projectRepository.findById(projectId)
@@ -75,10 +85,10 @@ public class ReleaseService {
                 .createdBy(currentUser)
                 .build();
 
-        return releaseRepository.save(release);
+        return toSummary(releaseRepository.save(release));
     }
 
-    public Release updateRelease(Long releaseId, String name, String description, String versionNumber,
+    public ReleaseSummaryDto updateRelease(Long releaseId, String name, String description, String versionNumber,
                                Release.ReleaseStatus status, Release.ReleasePriority priority,
                                LocalDateTime plannedStartDate, LocalDateTime plannedReleaseDate,
                                Integer targetStoryPoints, String goals, String releaseNotes) {
@@ -108,10 +118,10 @@ public class ReleaseService {
         if (goals != null) release.setReleaseGoals(goals);
         if (releaseNotes != null) release.setReleaseNotes(releaseNotes);
 
-        return releaseRepository.save(release);
+        return toSummary(releaseRepository.save(release));
     }
 
-    public Release startRelease(Long releaseId) {
+    public ReleaseSummaryDto startRelease(Long releaseId) {
         Release release = releaseRepository.findById(releaseId)
                 .orElseThrow(() -> new RuntimeException("Release not found with id: " + releaseId));
 
@@ -127,10 +137,10 @@ public class ReleaseService {
 
         release.setStatus(Release.ReleaseStatus.IN_PROGRESS);
 
-        return releaseRepository.save(release);
+        return toSummary(releaseRepository.save(release));
     }
 
-    public Release moveToTesting(Long releaseId) {
+    public ReleaseSummaryDto moveToTesting(Long releaseId) {
         Release release = releaseRepository.findById(releaseId)
                 .orElseThrow(() -> new RuntimeException("Release not found with id: " + releaseId));
 
@@ -146,10 +156,10 @@ public class ReleaseService {
 
         release.setStatus(Release.ReleaseStatus.TESTING);
 
-        return releaseRepository.save(release);
+        return toSummary(releaseRepository.save(release));
     }
 
-    public Release deployRelease(Long releaseId) {
+    public ReleaseSummaryDto deployRelease(Long releaseId) {
         Release release = releaseRepository.findById(releaseId)
                 .orElseThrow(() -> new RuntimeException("Release not found with id: " + releaseId));
 
@@ -166,25 +176,35 @@ public class ReleaseService {
         release.setStatus(Release.ReleaseStatus.RELEASED);
         release.setActualReleaseDate(LocalDateTime.now());
 
-        return releaseRepository.save(release);
+        return toSummary(releaseRepository.save(release));
     }
 
-    public List<Release> getOverdueReleases(Long projectId) {
-        return releaseRepository.findOverdueReleasesByProjectId(projectId, LocalDateTime.now());
+    public List<ReleaseSummaryDto> getOverdueReleases(Long projectId) {
+        return toSummaries(releaseRepository.findOverdueReleasesByProjectId(projectId, LocalDateTime.now()));
     }
 
-    public List<Release> getUpcomingReleases(Long projectId, int days) {
+    public List<ReleaseSummaryDto> getUpcomingReleases(Long projectId, int days) {
         LocalDateTime startDate = LocalDateTime.now();
         LocalDateTime endDate = startDate.plusDays(days);
-        return releaseRepository.findUpcomingReleasesByProjectId(projectId, startDate, endDate);
+        return toSummaries(releaseRepository.findUpcomingReleasesByProjectId(projectId, startDate, endDate));
     }
 
-    public List<Release> searchReleases(Long projectId, String searchTerm) {
-        return releaseRepository.searchReleasesByProjectId(projectId, searchTerm);
+    public List<ReleaseSummaryDto> searchReleases(Long projectId, String searchTerm) {
+        return toSummaries(releaseRepository.searchReleasesByProjectId(projectId, searchTerm));
     }
 
     public ReleaseStatistics getReleaseStatistics(Long projectId) {
         Object[] stats = releaseRepository.getReleaseStatisticsByProjectId(projectId);
+        if (stats.length == 1 && stats[0] instanceof Object[] row) {
+            stats = row;
+        }
+
+        long totalStoryPoints = 0;
+        long completedStoryPoints = 0;
+        for (ReleaseProgress progress : releaseProgressService.getProjectProgress(projectId)) {
+            totalStoryPoints += progress.getTotalStoryPoints();
+            completedStoryPoints += progress.getCompletedStoryPoints();
+        }
 
         if (stats.length > 0 && stats[0] != null) {
             return ReleaseStatistics.builder()
@@ -192,12 +212,65 @@ public class ReleaseService {
                     .completedReleases(((Number) stats[1]).longValue())
                     .inProgressReleases(((Number) stats[2]).longValue())
                     .overdueReleases(((Number) stats[3]).longValue())
+                    .totalStoryPoints(totalStoryPoints)
+                    .completedStoryPoints(completedStoryPoints)
                     .build();
         }
 
         return ReleaseStatistics.builder().build();
     }
 
+    public ReleaseSummaryDto assignSprint(Long releaseId, Long sprintId) {
+        Release release = releaseRepository.findById(releaseId)
+                .orElseThrow(() -> new RuntimeException("Release not found with id: " + releaseId));
+        Sprint sprint = sprintRepository.findById(sprintId)
+                .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
+
+        User currentUser = getCurrentUser();
+
+        if (!hasReleaseManagementPermission(currentUser)) {
+            throw new RuntimeException("You don't have permission to plan this release");
+        }
+
+        if (!sprint.getProject().getId().equals(release.getProject().getId())) {
+            throw new RuntimeException("Sprint and release must belong to the same project");
+        }
+
+        Set<Long> affectedReleaseIds = new HashSet<>();
+        affectedReleaseIds.add(releaseId);
+        if (sprint.getRelease() != null) {
+            affectedReleaseIds.add(sprint.getRelease().getId());
+        }
+        sprint.setRelease(release);
+        sprintRepository.save(sprint);
+        releaseProgressService.refresh(affectedReleaseIds);
+
+        return toSummary(release);
+    }
+
+    public ReleaseSummaryDto unassignSprint(Long releaseId, Long sprintId) {
+        Release release = releaseRepository.findById(releaseId)
+                .orElseThrow(() -> new RuntimeException("Release not found with id: " + releaseId));
+        Sprint sprint = sprintRepository.findById(sprintId)
+                .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
+
+        User currentUser = getCurrentUser();
+
+        if (!hasReleaseManagementPermission(currentUser)) {
+            throw new RuntimeException("You don't have permission to plan this release");
+        }
+
+        if (sprint.getRelease() == null || !sprint.getRelease().getId().equals(releaseId)) {
+            throw new RuntimeException("Sprint is not part of this release");
+        }
+
+        sprint.setRelease(null);
+        sprintRepository.save(sprint);
+        releaseProgressService.refresh(List.of(releaseId));
+
+        return toSummary(release);
+    }
+
     public Optional<Release> getReleaseWithSprints(Long releaseId) {
         return releaseRepository.findByIdWithSprints(releaseId);
     }
@@ -217,6 +290,63 @@ public class ReleaseService {
         }
 
         releaseRepository.delete(release);
+        releaseProgressService.removeRelease(releaseId);
+    }
+
+    private List<ReleaseSummaryDto> toSummaries(List<Release> releases) {
+        if (releases.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ReleaseProgress> progress = releaseProgressService.getProgress(
+                releases.stream().map(Release::getId).collect(Collectors.toList()));
+        return releases.stream()
+                .map(release -> toSummary(release, progress.get(release.getId())))
+                .collect(Collectors.toList());
+    }
+
+    private ReleaseSummaryDto toSummary(Release release) {
+        return toSummary(release, releaseProgressService.getProgress(List.of(release.getId())).get(release.getId()));
+    }
+
+    private ReleaseSummaryDto toSummary(Release release, ReleaseProgress progress) {
+        ReleaseSummaryDto.ReleaseSummaryDtoBuilder summary = ReleaseSummaryDto.builder()
+                .id(release.getId())
+                .projectId(release.getProject().getId())
+                .name(release.getName())
+                .versionNumber(release.getVersionNumber())
+                .description(release.getDescription())
+                .releaseNotes(release.getReleaseNotes())
+                .status(release.getStatus())
+                .priority(release.getPriority())
+                .plannedStartDate(release.getPlannedStartDate())
+                .plannedReleaseDate(release.getPlannedReleaseDate())
+                .actualReleaseDate(release.getActualReleaseDate())
+                .targetStoryPoints(release.getTargetStoryPoints())
+                .releaseGoals(release.getReleaseGoals())
+                .createdAt(release.getCreatedAt())
+                .updatedAt(release.getUpdatedAt())
+                .overdue(release.isOverdue())
+                .daysUntilRelease(release.getDaysUntilRelease())
+                .estimatedCompletionDate(release.getPlannedReleaseDate())
+                .canBeReleased(release.getStatus() == Release.ReleaseStatus.READY);
+
+        if (progress != null) {
+            summary.totalSprints(progress.getTotalSprints())
+                    .activeSprints(progress.getActiveSprints())
+                    .completedSprints(progress.getCompletedSprints())
+                    .totalTasks(progress.getTotalTasks())
+                    .completedTasks(progress.getCompletedTasks())
+                    .totalStoryPoints(progress.getTotalStoryPoints())
+                    .completedStoryPoints(progress.getCompletedStoryPoints())
+                    .completionPercentage(progress.getTotalStoryPoints() == 0 ? 0.0
+                            : (double) progress.getCompletedStoryPoints() / progress.getTotalStoryPoints() * 100.0)
+                    .estimatedCompletionDate(progress.getLatestSprintEndDate() != null
+                            ? progress.getLatestSprintEndDate() : release.getPlannedReleaseDate())
+                    .canBeReleased(release.getStatus() == Release.ReleaseStatus.READY
+                            && progress.getCompletedSprints() == progress.getTotalSprints())
+                    .progressRefreshedAt(progress.getRefreshedAt());
+        }
+        return summary.build();
     }
 
 
@@ -239,5 +369,7 @@ public class ReleaseService {
         private Long completedReleases;
         private Long inProgressReleases;
         private Long overdueReleases;
+        private Long totalStoryPoints;
+        private Long completedStoryPoints;
     }
 }
\ No newline at end of file
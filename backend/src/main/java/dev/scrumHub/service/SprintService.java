@@ -6,15 +6,26 @@ import dev.scrumHub.dto.UpdateSprintStatusRequestDto;
 import dev.scrumHub.model.Project;
 import dev.scrumHub.model.Sprint;
 import dev.scrumHub.model.Sprint.SprintStatus;
+import dev.scrumHub.model.SprintStats;
+import dev.scrumHub.model.TaskCounters;
 import dev.scrumHub.model.Task.TaskStatus;
 import dev.scrumHub.repository.ProjectRepository;
 import dev.scrumHub.repository.SprintRepository;
 import dev.scrumHub.repository.TaskRepository;
+import dev.scrumHub.repository.projection.ProgressCountView;
+import dev.scrumHub.repository.projection.SprintRollupView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,18 +35,60 @@ public class SprintService {
     private final SprintRepository sprintRepository;
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
+    private final StatsCounterService statsCounterService;
+    private final VelocityService velocityService;
+    private final ReleaseProgressService releaseProgressService;
 
     public List<SprintResponseDto> getSprintsByProjectId(Long projectId) {
         List<Sprint> sprints = sprintRepository.findByProjectIdOrderByCreatedAtDesc(projectId);
+        Map<Long, SprintRollup> rollups = loadRollups(sprints.stream().map(Sprint::getId).collect(Collectors.toList()));
         return sprints.stream()
-                .map(this::convertToDto)
+                .map(sprint -> convertToDto(sprint, rollups.getOrDefault(sprint.getId(), new SprintRollup())))
                 .collect(Collectors.toList());
     }
 
+    public Map<Long, SprintResponseDto> getActiveSprintsByProjectIds(Collection<Long> projectIds) {
+        Map<Long, SprintResponseDto> activeSprints = new HashMap<>();
+        if (projectIds.isEmpty()) {
+            return activeSprints;
+        }
+
+        List<Sprint> sprints = sprintRepository.findWithProjectByProjectIdsAndStatus(projectIds, SprintStatus.ACTIVE);
+        if (sprints.isEmpty()) {
+            return activeSprints;
+        }
+
+        List<Long> sprintIds = sprints.stream().map(Sprint::getId).collect(Collectors.toList());
+        Map<Long, SprintStats> stats = statsCounterService.getSprintStats(sprintIds);
+
+        Map<Long, ProgressCountView> progress = new HashMap<>();
+        List<Long> missingIds = sprintIds.stream().filter(id -> !stats.containsKey(id)).collect(Collectors.toList());
+        if (!missingIds.isEmpty()) {
+            for (ProgressCountView count : taskRepository.countProgressBySprintIds(missingIds, TaskStatus.DONE)) {
+                progress.put(count.getId(), count);
+            }
+        }
+
+        for (Sprint sprint : sprints) {
+            SprintStats sprintStats = stats.get(sprint.getId());
+            ProgressCountView count = progress.get(sprint.getId());
+            long totalTasks = sprintStats != null ? sprintStats.getCounters().getTotalTasks()
+                    : count != null ? count.getTotal() : 0L;
+            long completedTasks = sprintStats != null ? sprintStats.getCounters().getDone()
+                    : count != null ? count.getDone() : 0L;
+            SprintResponseDto dto = convertToDto(sprint, totalTasks, completedTasks);
+            if (sprintStats != null) {
+                dto.setStatusCounts(toStatusCounts(sprintStats.getCounters().toMap()));
+            }
+            activeSprints.putIfAbsent(sprint.getProject().getId(), dto);
+        }
+        return activeSprints;
+    }
+
     public SprintResponseDto getSprintById(Long id) {
         Sprint sprint = sprintRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + id));
-        return convertToDto(sprint);
+        return convertToDto(sprint, loadRollups(List.of(id)).getOrDefault(id, new SprintRollup()));
     }
 
     @Transactional
@@ -57,6 +110,7 @@ public class SprintService {
                 .build();
 
         Sprint savedSprint = sprintRepository.save(sprint);
+        statsCounterService.sprintCreated(savedSprint);
         return convertToDto(savedSprint);
     }
 
@@ -65,24 +119,43 @@ public class SprintService {
         Sprint sprint = sprintRepository.findById(sprintId)
                 .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
 
-        if (requestDto.isActive()) {
-            List<Sprint> activeSprints = sprintRepository.findByProjectIdAndStatus(
-                    sprint.getProject().getId(), SprintStatus.ACTIVE);
-            
-            for (Sprint activeSprint : activeSprints) {
-                if (!activeSprint.getId().equals(sprintId)) {
-                    activeSprint.setStatus(SprintStatus.PLANNED);
-                    sprintRepository.save(activeSprint);
-                }
+        SprintStatus previousStatus = sprint.getStatus();
+        SprintStatus targetStatus = resolveTargetStatus(requestDto);
+        try {
+            if (targetStatus == SprintStatus.ACTIVE) {
+                sprintRepository.deactivateOtherSprints(sprint.getProject().getId(), sprintId,
+                        SprintStatus.ACTIVE, SprintStatus.PLANNED);
             }
-            
-            sprint.setStatus(SprintStatus.ACTIVE);
+            sprintRepository.updateStatus(sprintId, targetStatus);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("Another sprint was activated concurrently in this project. Please retry.");
+        }
+
+        if (targetStatus == SprintStatus.COMPLETED && previousStatus != SprintStatus.COMPLETED) {
+            velocityService.sprintCompleted(sprintId);
+        } else if (previousStatus == SprintStatus.COMPLETED && targetStatus != SprintStatus.COMPLETED) {
+            velocityService.removeSprint(sprintId);
+        }
+        if (targetStatus == SprintStatus.ACTIVE) {
+            releaseProgressService.markProjectDirty(sprint.getProject().getId());
         } else {
-            sprint.setStatus(SprintStatus.PLANNED);
+            releaseProgressService.markSprintDirty(sprintId);
         }
 
-        Sprint savedSprint = sprintRepository.save(sprint);
-        return convertToDto(savedSprint);
+        Sprint updatedSprint = sprintRepository.findById(sprintId)
+                .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
+        return convertToDto(updatedSprint);
+    }
+
+    private SprintStatus resolveTargetStatus(UpdateSprintStatusRequestDto requestDto) {
+        if (requestDto.getStatus() == null || requestDto.getStatus().isBlank()) {
+            return requestDto.isActive() ? SprintStatus.ACTIVE : SprintStatus.PLANNED;
+        }
+        try {
+            return SprintStatus.valueOf(requestDto.getStatus().trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid sprint status: " + requestDto.getStatus());
+        }
     }
 
     @Transactional
@@ -96,11 +169,75 @@ public class SprintService {
         }
         
         sprintRepository.delete(sprint);
+        statsCounterService.sprintDeleted(sprint);
+        velocityService.removeSprint(sprintId);
+        if (sprint.getRelease() != null) {
+            releaseProgressService.markReleaseDirty(sprint.getRelease().getId());
+        }
     }
 
     private SprintResponseDto convertToDto(Sprint sprint) {
+        Optional<SprintStats> stats = statsCounterService.getSprintStats(sprint.getId());
+        if (stats.isPresent()) {
+            TaskCounters counters = stats.get().getCounters();
+            SprintResponseDto dto = convertToDto(sprint, counters.getTotalTasks(), counters.getDone());
+            dto.setStatusCounts(toStatusCounts(counters.toMap()));
+            return dto;
+        }
+
         long totalTasks = taskRepository.countBySprintId(sprint.getId());
         long completedTasks = taskRepository.countBySprintIdAndStatus(sprint.getId(), TaskStatus.DONE);
+        return convertToDto(sprint, totalTasks, completedTasks);
+    }
+
+    private SprintResponseDto convertToDto(Sprint sprint, SprintRollup rollup) {
+        SprintResponseDto dto = convertToDto(sprint, rollup.totalTasks, rollup.statusCounts.get(TaskStatus.DONE));
+        dto.setStatusCounts(toStatusCounts(rollup.statusCounts));
+        dto.setStoryPoints((int) rollup.storyPoints);
+        dto.setCompletedStoryPoints((int) rollup.completedStoryPoints);
+        return dto;
+    }
+
+    private Map<Long, SprintRollup> loadRollups(List<Long> sprintIds) {
+        Map<Long, SprintRollup> rollups = new HashMap<>();
+        if (sprintIds.isEmpty()) {
+            return rollups;
+        }
+
+        for (SprintRollupView row : taskRepository.findSprintRollups(sprintIds)) {
+            SprintRollup rollup = rollups.computeIfAbsent(row.getSprintId(), id -> new SprintRollup());
+            rollup.statusCounts.merge(row.getStatus(), row.getCount(), Long::sum);
+            rollup.totalTasks += row.getCount();
+            rollup.storyPoints += row.getStoryPoints();
+            if (row.getStatus() == TaskStatus.DONE) {
+                rollup.completedStoryPoints += row.getStoryPoints();
+            }
+        }
+        return rollups;
+    }
+
+    private Map<String, Integer> toStatusCounts(Map<TaskStatus, Long> counts) {
+        Map<String, Integer> statusCounts = new LinkedHashMap<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            statusCounts.put(status.name(), counts.getOrDefault(status, 0L).intValue());
+        }
+        return statusCounts;
+    }
+
+    private static final class SprintRollup {
+        private final EnumMap<TaskStatus, Long> statusCounts = new EnumMap<>(TaskStatus.class);
+        private long totalTasks;
+        private long storyPoints;
+        private long completedStoryPoints;
+
+        private SprintRollup() {
+            for (TaskStatus status : TaskStatus.values()) {
+                statusCounts.put(status, 0L);
+            }
+        }
+    }
+
+    private SprintResponseDto convertToDto(Sprint sprint, long totalTasks, long completedTasks) {
         int progress = totalTasks > 0 ? (int) ((completedTasks * 100) / totalTasks) : 0;
         
         return SprintResponseDto.builder()
@@ -0,0 +1,177 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.dto.BurndownDto;
+import dev.scrumHub.dto.BurndownPointDto;
+import dev.scrumHub.model.Sprint;
+import dev.scrumHub.model.Sprint.SprintStatus;
+import dev.scrumHub.model.SprintSnapshot;
+import dev.scrumHub.model.Task.TaskStatus;
+import dev.scrumHub.repository.SprintRepository;
+import dev.scrumHub.repository.SprintSnapshotRepository;
+import dev.scrumHub.repository.TaskRepository;
+import dev.scrumHub.repository.projection.SprintWorkView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+public class SprintSnapshotService {
+
+    private final SprintSnapshotRepository snapshotRepository;
+    private final SprintRepository sprintRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> dirtySprints = ConcurrentHashMap.newKeySet();
+
+    public void markDirty(Long sprintId) {
+        if (sprintId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtySprints.add(sprintId);
+                }
+            });
+        } else {
+            dirtySprints.add(sprintId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.burndown.flush-seconds:30}", timeUnit = TimeUnit.SECONDS)
+    public void flushDirtySprints() {
+        if (dirtySprints.isEmpty()) {
+            return;
+        }
+        List<Long> sprintIds = new ArrayList<>(dirtySprints);
+        dirtySprints.removeAll(sprintIds);
+        try {
+            capture(sprintIds);
+        } catch (RuntimeException e) {
+            dirtySprints.addAll(sprintIds);
+            System.err.println("Warning: Burndown snapshot refresh failed, will retry: " + e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${app.burndown.daily-cron:0 5 0 * * *}")
+    public void snapshotActiveSprints() {
+        capture(sprintRepository.findIdsByStatus(SprintStatus.ACTIVE));
+    }
+
+    public void capture(Collection<Long> sprintIds) {
+        if (sprintIds.isEmpty()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, SprintSnapshot> existing = new HashMap<>();
+            for (SprintSnapshot snapshot : snapshotRepository.findBySprintIdsAndDate(sprintIds, today)) {
+                existing.put(snapshot.getSprintId(), snapshot);
+            }
+
+            Map<Long, SprintWorkView> work = new HashMap<>();
+            for (SprintWorkView row : taskRepository.sumWorkBySprintIds(sprintIds, TaskStatus.DONE)) {
+                work.put(row.getSprintId(), row);
+            }
+
+            List<SprintSnapshot> snapshots = new ArrayList<>();
+            for (Long sprintId : sprintIds) {
+                SprintWorkView row = work.get(sprintId);
+                SprintSnapshot snapshot = existing.getOrDefault(sprintId,
+                        SprintSnapshot.builder().sprintId(sprintId).snapshotDate(today).build());
+                snapshot.setTotalTasks(row != null ? row.getTotalTasks().intValue() : 0);
+                snapshot.setCompletedTasks(row != null ? row.getCompletedTasks().intValue() : 0);
+                snapshot.setTotalHours(row != null ? row.getTotalHours().intValue() : 0);
+                snapshot.setCompletedHours(row != null ? row.getCompletedHours().intValue() : 0);
+                snapshots.add(snapshot);
+            }
+            snapshotRepository.saveAll(snapshots);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public BurndownDto getBurndown(Long sprintId) {
+        Sprint sprint = sprintRepository.findById(sprintId)
+                .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
+        List<SprintSnapshot> snapshots = snapshotRepository.findBySprintIdOrderBySnapshotDateAsc(sprintId);
+
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = sprint.getStartDate() != null ? sprint.getStartDate().toLocalDate()
+                : !snapshots.isEmpty() ? snapshots.get(0).getSnapshotDate() : today;
+        LocalDate endDate = sprint.getEndDate() != null ? sprint.getEndDate().toLocalDate()
+                : !snapshots.isEmpty() ? snapshots.get(snapshots.size() - 1).getSnapshotDate() : today;
+        if (endDate.isBefore(startDate)) {
+            endDate = startDate;
+        }
+
+        SprintSnapshot baseline = null;
+        for (SprintSnapshot snapshot : snapshots) {
+            if (snapshot.getSnapshotDate().isAfter(startDate)) {
+                break;
+            }
+            baseline = snapshot;
+        }
+        if (baseline == null && !snapshots.isEmpty()) {
+            baseline = snapshots.get(0);
+        }
+
+        long sprintDays = ChronoUnit.DAYS.between(startDate, endDate);
+        LocalDate lastActualDate = today.isBefore(endDate) ? today : endDate;
+
+        List<BurndownPointDto> points = new ArrayList<>();
+        Iterator<SprintSnapshot> iterator = snapshots.iterator();
+        SprintSnapshot next = iterator.hasNext() ? iterator.next() : null;
+        SprintSnapshot current = null;
+
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            while (next != null && !next.getSnapshotDate().isAfter(date)) {
+                current = next;
+                next = iterator.hasNext() ? iterator.next() : null;
+            }
+
+            double remainingFraction = sprintDays == 0 ? 0.0
+                    : 1.0 - (double) ChronoUnit.DAYS.between(startDate, date) / sprintDays;
+
+            BurndownPointDto.BurndownPointDtoBuilder point = BurndownPointDto.builder()
+                    .date(date)
+                    .idealRemainingTasks(baseline != null ? round(baseline.getTotalTasks() * remainingFraction) : null)
+                    .idealRemainingHours(baseline != null ? round(baseline.getTotalHours() * remainingFraction) : null);
+
+            if (current != null && !date.isAfter(lastActualDate)) {
+                point.totalTasks(current.getTotalTasks())
+                        .completedTasks(current.getCompletedTasks())
+                        .remainingTasks(current.getTotalTasks() - current.getCompletedTasks())
+                        .totalHours(current.getTotalHours())
+                        .completedHours(current.getCompletedHours())
+                        .remainingHours(current.getTotalHours() - current.getCompletedHours());
+            }
+            points.add(point.build());
+        }
+
+        return BurndownDto.builder()
+                .sprintId(sprint.getId())
+                .sprintName(sprint.getName())
+                .startDate(startDate)
+                .endDate(endDate)
+                .points(points)
+                .build();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
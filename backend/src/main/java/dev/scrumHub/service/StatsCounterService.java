@@ -0,0 +1,181 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.model.ProjectStats;
+import dev.scrumHub.model.Sprint;
+import dev.scrumHub.model.SprintStats;
+import dev.scrumHub.model.Task;
+import dev.scrumHub.model.Task.TaskStatus;
+import dev.scrumHub.model.TaskCounters;
+import dev.scrumHub.model.UserProject;
+import dev.scrumHub.repository.ProjectStatsRepository;
+import dev.scrumHub.repository.SprintRepository;
+import dev.scrumHub.repository.SprintStatsRepository;
+import dev.scrumHub.repository.TaskRepository;
+import dev.scrumHub.repository.UserProjectRepository;
+import dev.scrumHub.repository.projection.SprintStatusCountView;
+import dev.scrumHub.repository.projection.StatusCountView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class StatsCounterService {
+
+    private final ProjectStatsRepository projectStatsRepository;
+    private final SprintStatsRepository sprintStatsRepository;
+    private final TaskRepository taskRepository;
+    private final SprintRepository sprintRepository;
+    private final UserProjectRepository userProjectRepository;
+
+    public Optional<ProjectStats> getProjectStats(Long projectId) {
+        return projectStatsRepository.findById(projectId);
+    }
+
+    public Map<Long, ProjectStats> getProjectStats(Collection<Long> projectIds) {
+        Map<Long, ProjectStats> stats = new HashMap<>();
+        for (ProjectStats projectStats : projectStatsRepository.findAllById(projectIds)) {
+            stats.put(projectStats.getProjectId(), projectStats);
+        }
+        return stats;
+    }
+
+    public Optional<SprintStats> getSprintStats(Long sprintId) {
+        return sprintStatsRepository.findById(sprintId);
+    }
+
+    public Map<Long, SprintStats> getSprintStats(Collection<Long> sprintIds) {
+        Map<Long, SprintStats> stats = new HashMap<>();
+        for (SprintStats sprintStats : sprintStatsRepository.findAllById(sprintIds)) {
+            stats.put(sprintStats.getSprintId(), sprintStats);
+        }
+        return stats;
+    }
+
+    @Transactional
+    public void taskCreated(Task task) {
+        moveTask(task, null, task.getStatus());
+    }
+
+    @Transactional
+    public void taskDeleted(Task task) {
+        moveTask(task, task.getStatus(), null);
+    }
+
+    @Transactional
+    public void taskStatusChanged(Task task, TaskStatus previousStatus) {
+        if (previousStatus != task.getStatus()) {
+            moveTask(task, previousStatus, task.getStatus());
+        }
+    }
+
+    @Transactional
+    public void projectCreated(Long projectId) {
+        projectStatsRepository.save(ProjectStats.builder().projectId(projectId).build());
+    }
+
+    @Transactional
+    public void projectDeleted(Long projectId) {
+        sprintStatsRepository.deleteByProjectId(projectId);
+        projectStatsRepository.deleteById(projectId);
+    }
+
+    @Transactional
+    public void sprintCreated(Sprint sprint) {
+        Long projectId = sprint.getProject().getId();
+        projectStatsRepository.addSprintCount(projectId, 1, LocalDateTime.now());
+        sprintStatsRepository.save(SprintStats.builder().sprintId(sprint.getId()).projectId(projectId).build());
+    }
+
+    @Transactional
+    public void sprintDeleted(Sprint sprint) {
+        projectStatsRepository.addSprintCount(sprint.getProject().getId(), -1, LocalDateTime.now());
+        sprintStatsRepository.deleteById(sprint.getId());
+    }
+
+    @Transactional
+    public void memberAdded(UserProject userProject) {
+        if (userProject.isActive()) {
+            projectStatsRepository.addMemberCount(userProject.getId().getProjectId(), 1, LocalDateTime.now());
+        }
+    }
+
+    @Transactional
+    public void memberRemoved(UserProject userProject) {
+        if (userProject.isActive()) {
+            projectStatsRepository.addMemberCount(userProject.getId().getProjectId(), -1, LocalDateTime.now());
+        }
+    }
+
+    @Transactional
+    public boolean reconcileProject(Long projectId) {
+        ProjectStats projectStats = projectStatsRepository.findForUpdate(projectId)
+                .orElseGet(() -> ProjectStats.builder().projectId(projectId).build());
+        Map<Long, SprintStats> sprintStats = new HashMap<>();
+        for (SprintStats stats : sprintStatsRepository.findForUpdateByProjectId(projectId)) {
+            sprintStats.put(stats.getSprintId(), stats);
+        }
+
+        EnumMap<TaskStatus, Long> projectCounts = new EnumMap<>(TaskStatus.class);
+        for (StatusCountView count : taskRepository.countStatusesByProjectId(projectId)) {
+            projectCounts.put(count.getStatus(), count.getCount());
+        }
+        long memberCount = userProjectRepository.countByProjectId(projectId);
+        long sprintCount = sprintRepository.countByProjectId(projectId);
+
+        Map<Long, EnumMap<TaskStatus, Long>> sprintCounts = new HashMap<>();
+        for (Sprint sprint : sprintRepository.findByProjectId(projectId)) {
+            sprintCounts.put(sprint.getId(), new EnumMap<>(TaskStatus.class));
+        }
+        for (SprintStatusCountView count : taskRepository.countSprintStatusesByProjectId(projectId)) {
+            sprintCounts.computeIfAbsent(count.getSprintId(), id -> new EnumMap<>(TaskStatus.class))
+                    .put(count.getStatus(), count.getCount());
+        }
+
+        boolean drifted = reset(projectStats.getCounters(), projectCounts);
+        drifted |= projectStats.getMemberCount() != memberCount || projectStats.getSprintCount() != sprintCount;
+        projectStats.setMemberCount(memberCount);
+        projectStats.setSprintCount(sprintCount);
+        projectStatsRepository.save(projectStats);
+
+        for (Map.Entry<Long, EnumMap<TaskStatus, Long>> entry : sprintCounts.entrySet()) {
+            SprintStats stats = sprintStats.remove(entry.getKey());
+            if (stats == null) {
+                stats = SprintStats.builder().sprintId(entry.getKey()).projectId(projectId).build();
+                drifted = true;
+            }
+            drifted |= reset(stats.getCounters(), entry.getValue());
+            sprintStatsRepository.save(stats);
+        }
+        if (!sprintStats.isEmpty()) {
+            sprintStatsRepository.deleteAll(sprintStats.values());
+            drifted = true;
+        }
+
+        return drifted;
+    }
+
+    private boolean reset(TaskCounters counters, Map<TaskStatus, Long> counts) {
+        Map<TaskStatus, Long> before = counters.toMap();
+        long totalBefore = counters.getTotalTasks();
+        counters.reset(counts);
+        return totalBefore != counters.getTotalTasks() || !before.equals(counters.toMap());
+    }
+
+    private void moveTask(Task task, TaskStatus from, TaskStatus to) {
+        TaskCounters delta = new TaskCounters();
+        delta.move(from, to);
+        LocalDateTime now = LocalDateTime.now();
+        projectStatsRepository.addTaskCounts(task.getProject().getId(), delta.getTotalTasks(), delta.getToDo(),
+                delta.getInProgress(), delta.getReadyForTesting(), delta.getInTesting(), delta.getBugFound(),
+                delta.getTestPassed(), delta.getDone(), now);
+        if (task.getSprint() != null) {
+            sprintStatsRepository.addTaskCounts(task.getSprint().getId(), delta.getTotalTasks(), delta.getToDo(),
+                    delta.getInProgress(), delta.getReadyForTesting(), delta.getInTesting(), delta.getBugFound(),
+                    delta.getTestPassed(), delta.getDone(), now);
+        }
+    }
+}
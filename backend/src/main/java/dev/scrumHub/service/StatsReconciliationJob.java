@@ -0,0 +1,42 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class StatsReconciliationJob {
+
+    private final ProjectRepository projectRepository;
+    private final StatsCounterService statsCounterService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcileAll();
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval-minutes:60}",
+            initialDelayString = "${app.stats.reconcile-interval-minutes:60}",
+            timeUnit = TimeUnit.MINUTES)
+    public void reconcileAll() {
+        int corrected = 0;
+        for (Long projectId : projectRepository.findAllIds()) {
+            try {
+                if (statsCounterService.reconcileProject(projectId)) {
+                    corrected++;
+                }
+            } catch (RuntimeException e) {
+                System.err.println("Warning: Stats reconciliation failed for project " + projectId + ": " + e.getMessage());
+            }
+        }
+        if (corrected > 0) {
+            System.err.println("Warning: Stats reconciliation corrected counters for " + corrected + " project(s)");
+        }
+    }
+}
@@ -125,8 +125,7 @@ public class TaskCommentService {
         TaskComment comment = TaskComment.builder()
                 .content(content)
                 .type(TaskComment.CommentType.STATUS_CHANGE)
-                .task(taskRepository.findById(taskId)
-                        .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId)))
+                .task(taskRepository.getReferenceById(taskId))
                 .author(changedBy)
                 .build();
 
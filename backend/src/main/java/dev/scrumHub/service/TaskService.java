@@ -1,6 +1,8 @@
 package dev.scrumHub.service;
 
 import dev.scrumHub.dto.CreateTaskRequestDto;
+import dev.scrumHub.dto.TaskFilterDto;
+import dev.scrumHub.dto.TaskPageDto;
 import dev.scrumHub.dto.TaskResponseDto;
 import dev.scrumHub.dto.AssignTaskRequestDto;
 import dev.scrumHub.dto.UserResponseDto;
@@ -11,42 +13,98 @@ import dev.scrumHub.model.Task.TaskType;
 import dev.scrumHub.repository.ProjectRepository;
 import dev.scrumHub.repository.SprintRepository;
 import dev.scrumHub.repository.TaskRepository;
+import dev.scrumHub.repository.TaskTombstoneRepository;
+import dev.scrumHub.repository.TaskViewFilter;
 import dev.scrumHub.repository.UserRepository;
+import dev.scrumHub.repository.projection.TaskView;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int STREAM_CLEAR_INTERVAL = 500;
     
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final SprintRepository sprintRepository;
     private final UserRepository userRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final BoardCache boardCache;
+    private final BoardEventHub boardEventHub;
+    private final StatsCounterService statsCounterService;
+    private final TaskTransitionRecorder transitionRecorder;
+    private final FlowMetricsService flowMetricsService;
+    private final SprintSnapshotService sprintSnapshotService;
+    private final ReleaseProgressService releaseProgressService;
+    private final TaskTagClassifier tagClassifier;
+    private final EntityManager entityManager;
 
     public List<TaskResponseDto> getTasksByProjectId(Long projectId) {
-        List<Task> tasks = taskRepository.findByProjectIdOrderByCreatedAtDesc(projectId);
+        List<TaskView> tasks = taskRepository.findViewsByProjectId(projectId);
         return tasks.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
 
     public List<TaskResponseDto> getTasksBySprintId(Long sprintId) {
-        List<Task> tasks = taskRepository.findBySprintIdOrderByPriorityDesc(sprintId);
+        List<TaskView> tasks = taskRepository.findViewsBySprintId(sprintId);
         return tasks.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
 
+    public List<TaskResponseDto> findTasks(TaskFilterDto filter) {
+        TaskViewFilter resolved = resolveFilter(filter);
+        if (filter.getProjectIds() != null && filter.getProjectIds().isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<TaskView> tasks = filter.getSprintId() != null
+                ? taskRepository.findViewsByPriority(resolved)
+                : taskRepository.findViewPage(resolved, Pageable.unpaged());
+        return tasks.stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    public TaskPageDto getTaskPage(TaskFilterDto filter) {
+        int size = filter.getSize() == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(filter.getSize(), 1), MAX_PAGE_SIZE);
+        List<TaskView> rows = queryTasks(filter, PageRequest.of(0, size + 1));
+
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows = rows.subList(0, size);
+        }
+
+        return TaskPageDto.builder()
+                .items(rows.stream().map(this::convertToDto).collect(Collectors.toList()))
+                .nextCursor(hasMore ? encodeCursor(rows.get(rows.size() - 1)) : null)
+                .hasMore(hasMore)
+                .size(size)
+                .build();
+    }
+
     public TaskResponseDto getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+        TaskView task = taskRepository.findViewById(id)
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
         return convertToDto(task);
     }
@@ -82,6 +140,7 @@ public class TaskService {
                 .status(TaskStatus.valueOf(requestDto.getStatus().toUpperCase()))
                 .estimatedHours(requestDto.getEstimatedHours())
                 .dueDate(requestDto.getDueDate())
+                .tagMask(tagClassifier.classify(requestDto.getTitle(), requestDto.getDescription()))
                 .project(project)
                 .sprint(sprint)
                 .assignee(assignee)
@@ -90,6 +149,9 @@ public class TaskService {
                 .build();
 
         Task savedTask = taskRepository.save(task);
+        statsCounterService.taskCreated(savedTask);
+        transitionRecorder.record(savedTask, null, createdBy.getId());
+        publishTaskChange(savedTask);
         return convertToDto(savedTask);
     }
 
@@ -107,43 +169,60 @@ public class TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
+        publishTaskChange(savedTask);
         return convertToDto(savedTask);
     }
 
     @Transactional
-    public TaskResponseDto updateTaskStatus(Long taskId, TaskStatus status) {
+    public TaskResponseDto updateTaskStatus(Long taskId, TaskStatus status, Long actorId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId));
 
+        TaskStatus previousStatus = task.getStatus();
         task.setStatus(status);
         Task savedTask = taskRepository.save(task);
+        statsCounterService.taskStatusChanged(savedTask, previousStatus);
+        transitionRecorder.record(savedTask, previousStatus, actorId);
+        flowMetricsService.taskStatusChanged(savedTask, previousStatus);
+        publishTaskChange(savedTask);
         return convertToDto(savedTask);
     }
 
     @Transactional
-    public void deleteTask(Long taskId) {
+    public void deleteTask(Long taskId, Long actorId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId));
         
         taskRepository.delete(task);
+        statsCounterService.taskDeleted(task);
+        transitionRecorder.recordDeletion(task, actorId);
+        taskTombstoneRepository.save(TaskTombstone.builder()
+                .taskId(task.getId())
+                .projectId(task.getProject().getId())
+                .sprintId(task.getSprint() != null ? task.getSprint().getId() : null)
+                .build());
+        invalidateBoards(task);
+        boardEventHub.taskDeleted(task.getProject().getId(), task.getId());
     }
 
     public List<TaskResponseDto> getTasksByAssigneeId(Long assigneeId) {
-        List<Task> tasks = taskRepository.findByAssigneeId(assigneeId);
+        List<TaskView> tasks = taskRepository.findViewsByAssigneeId(assigneeId);
         return tasks.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
 
     public List<TaskResponseDto> getTasksBySprintIdAndAssigneeId(Long sprintId, Long assigneeId) {
-        List<Task> tasks = taskRepository.findBySprintIdAndAssigneeId(sprintId, assigneeId);
+        List<TaskView> tasks = sprintId != null
+                ? taskRepository.findViewsBySprintIdAndAssigneeId(sprintId, assigneeId)
+                : taskRepository.findViewsWithoutSprintByAssigneeId(assigneeId);
         return tasks.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
 
     public List<TaskResponseDto> getTasksByProjectIdAndAssigneeId(Long projectId, Long assigneeId) {
-        List<Task> tasks = taskRepository.findByProjectIdAndAssigneeId(projectId, assigneeId);
+        List<TaskView> tasks = taskRepository.findViewsByProjectIdAndAssigneeId(projectId, assigneeId);
         return tasks.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
@@ -174,6 +253,90 @@ public class TaskService {
         }
     }
 
+    public void validateFilter(TaskFilterDto filter) {
+        resolveFilter(filter);
+    }
+
+    @Transactional(readOnly = true)
+    public long streamTasks(TaskFilterDto filter, Consumer<TaskResponseDto> sink) {
+        TaskViewFilter resolved = resolveFilter(filter);
+        if (filter.getProjectIds() != null && filter.getProjectIds().isEmpty()) {
+            return 0;
+        }
+
+        long written = 0;
+        try (Stream<TaskView> rows = taskRepository.streamViews(resolved)) {
+            Iterator<TaskView> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(convertToDto(iterator.next()));
+                if (++written % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return written;
+    }
+
+    private List<TaskView> queryTasks(TaskFilterDto filter, Pageable pageable) {
+        TaskViewFilter resolved = resolveFilter(filter);
+        if (filter.getProjectIds() != null && filter.getProjectIds().isEmpty()) {
+            return new ArrayList<>();
+        }
+        return taskRepository.findViewPage(resolved, pageable);
+    }
+
+    private TaskViewFilter resolveFilter(TaskFilterDto filter) {
+        TaskStatus status = parseEnum(TaskStatus.class, filter.getStatus(), "status");
+        TaskType type = parseEnum(TaskType.class, filter.getType(), "type");
+        TaskPriority priority = parseEnum(TaskPriority.class, filter.getPriority(), "priority");
+
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        if (filter.getCursor() != null && !filter.getCursor().isEmpty()) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(filter.getCursor()), StandardCharsets.UTF_8);
+                int separator = decoded.lastIndexOf('|');
+                cursorCreatedAt = LocalDateTime.parse(decoded.substring(0, separator));
+                cursorId = Long.valueOf(decoded.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Invalid cursor: " + filter.getCursor());
+            }
+        }
+
+        return new TaskViewFilter(filter.getProjectId(), filter.getProjectIds(), filter.getSprintId(),
+                filter.getAssigneeId(), status, type, priority, cursorCreatedAt, cursorId);
+    }
+
+    private String encodeCursor(TaskView task) {
+        String raw = task.getCreatedAt() + "|" + task.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private <E extends Enum<E>> E parseEnum(Class<E> enumType, String value, String label) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(enumType, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid " + label + ": " + value);
+        }
+    }
+
+    public void publishTaskChange(Task task) {
+        invalidateBoards(task);
+        Long taskId = task.getId();
+        boardEventHub.taskChanged(task.getProject().getId(),
+                () -> taskRepository.findViewById(taskId).map(this::convertToDto).orElse(null));
+    }
+
+    private void invalidateBoards(Task task) {
+        Long sprintId = task.getSprint() != null ? task.getSprint().getId() : null;
+        boardCache.invalidate(task.getProject().getId(), sprintId);
+        sprintSnapshotService.markDirty(sprintId);
+        releaseProgressService.markSprintDirty(sprintId);
+    }
+
     public TaskResponseDto convertToDto(Task task) {
         UserResponseDto assigneeDto = null;
         if (task.getAssignee() != null) {
@@ -214,53 +377,78 @@ public class TaskService {
                 .assigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null)
                 .assignee(assigneeDto)
                 .createdBy(createdByDto)
-                .tags(generateTaskTags(task))
+                .tags(generateTaskTags(task.getType(), task.getPriority(), task.getStatus(),
+                        task.getTagMask(), task.getTitle(), task.getDescription()))
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
                 .build();
     }
 
-    private List<String> generateTaskTags(Task task) {
+    public TaskResponseDto convertToDto(TaskView task) {
+        UserResponseDto assigneeDto = null;
+        if (task.getAssigneeId() != null) {
+            assigneeDto = UserResponseDto.builder()
+                    .id(task.getAssigneeId())
+                    .username(task.getAssigneeUsername())
+                    .fullName(task.getAssigneeFullName())
+                    .email(task.getAssigneeEmail())
+                    .role(task.getAssigneeRole())
+                    .active(Boolean.TRUE.equals(task.getAssigneeActive()))
+                    .build();
+        }
+
+        UserResponseDto createdByDto = UserResponseDto.builder()
+                .id(task.getCreatedById())
+                .username(task.getCreatedByUsername())
+                .fullName(task.getCreatedByFullName())
+                .email(task.getCreatedByEmail())
+                .role(task.getCreatedByRole())
+                .active(Boolean.TRUE.equals(task.getCreatedByActive()))
+                .build();
+
+        return TaskResponseDto.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .acceptanceCriteria(task.getAcceptanceCriteria())
+                .type(task.getType().toString())
+                .priority(task.getPriority().toString())
+                .status(task.getStatus().toString())
+                .estimatedHours(task.getEstimatedHours())
+                .loggedHours(task.getLoggedHours())
+                .dueDate(task.getDueDate())
+                .sprintId(task.getSprintId())
+                .sprintName(task.getSprintName())
+                .projectId(task.getProjectId())
+                .projectName(task.getProjectName())
+                .assigneeId(task.getAssigneeId())
+                .assignee(assigneeDto)
+                .createdBy(createdByDto)
+                .tags(generateTaskTags(task.getType(), task.getPriority(), task.getStatus(),
+                        task.getTagMask(), task.getTitle(), task.getDescription()))
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .build();
+    }
+
+    private List<String> generateTaskTags(TaskType type, TaskPriority priority, TaskStatus status,
+                                          Long tagMask, String title, String description) {
         List<String> tags = new ArrayList<>();
         
-        if (task.getType() == TaskType.BUG) {
+        if (type == TaskType.BUG) {
             tags.add("Bug");
         }
         
-        if (task.getPriority() == TaskPriority.HIGH || task.getPriority() == TaskPriority.CRITICAL) {
+        if (priority == TaskPriority.HIGH || priority == TaskPriority.CRITICAL) {
             tags.add("High Priority");
         }
         
-        if (task.getStatus() == TaskStatus.IN_TESTING) {
+        if (status == TaskStatus.IN_TESTING) {
             tags.add("Testing");
         }
-        
-        String content = (task.getTitle() + " " + (task.getDescription() != null ? task.getDescription() : "")).toLowerCase();
-        
-        if (content.contains("frontend") || content.contains("ui") || content.contains("interface")) {
-            tags.add("Frontend");
-        }
-        if (content.contains("backend") || content.contains("api") || content.contains("server")) {
-            tags.add("Backend");
-        }
-        if (content.contains("design") || content.contains("ux")) {
-            tags.add("Design");
-        }
-        if (content.contains("security") || content.contains("auth")) {
-            tags.add("Security");
-        }
-        if (content.contains("performance") || content.contains("optimization")) {
-            tags.add("Performance");
-        }
-        if (content.contains("payment") || content.contains("billing")) {
-            tags.add("Payment");
-        }
-        if (content.contains("documentation") || content.contains("docs")) {
-            tags.add("Documentation");
-        }
-        if (content.contains("devops") || content.contains("deployment")) {
-            tags.add("DevOps");
-        }
+
+        long mask = tagMask != null ? tagMask : tagClassifier.classify(title, description);
+        tags.addAll(tagClassifier.decode(mask));
         
         return tags;
     }
@@ -0,0 +1,83 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.model.ProjectStats;
+import dev.scrumHub.model.Task.TaskStatus;
+import dev.scrumHub.repository.TaskRepository;
+import dev.scrumHub.repository.projection.StatusCountView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Service
+public class TaskStatsService {
+
+    private static final int MAX_ENTRIES = 1000;
+
+    private final TaskRepository taskRepository;
+    private final StatsCounterService statsCounterService;
+    private final long ttlMillis;
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    public TaskStatsService(TaskRepository taskRepository,
+                            StatsCounterService statsCounterService,
+                            @Value("${app.task-stats.ttl-seconds:15}") long ttlSeconds) {
+        this.taskRepository = taskRepository;
+        this.statsCounterService = statsCounterService;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    private record Entry(long expiresAt, Map<TaskStatus, Long> counts) {
+    }
+
+    public Map<TaskStatus, Long> countByAssignee(Long assigneeId) {
+        return cached("assignee:" + assigneeId, () -> taskRepository.countStatusesByAssigneeId(assigneeId));
+    }
+
+    public Map<TaskStatus, Long> countByProject(Long projectId) {
+        Optional<ProjectStats> stats = statsCounterService.getProjectStats(projectId);
+        if (stats.isPresent()) {
+            return stats.get().getCounters().toMap();
+        }
+        return cached("project:" + projectId, () -> taskRepository.countStatusesByProjectId(projectId));
+    }
+
+    public static long total(Map<TaskStatus, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private Map<TaskStatus, Long> cached(String key, Supplier<List<StatusCountView>> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(key);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.counts();
+        }
+
+        Map<TaskStatus, Long> counts = toEnumMap(loader.get());
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.values().removeIf(e -> e.expiresAt() <= now);
+            if (cache.size() >= MAX_ENTRIES) {
+                cache.clear();
+            }
+        }
+        cache.put(key, new Entry(now + ttlMillis, counts));
+        return counts;
+    }
+
+    private static Map<TaskStatus, Long> toEnumMap(List<StatusCountView> rows) {
+        EnumMap<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (StatusCountView row : rows) {
+            counts.merge(row.getStatus(), row.getCount(), Long::sum);
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+}
@@ -0,0 +1,67 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.config.TaskTagProperties;
+import dev.scrumHub.model.AppSetting;
+import dev.scrumHub.repository.AppSettingRepository;
+import dev.scrumHub.repository.TaskRepository;
+import dev.scrumHub.repository.projection.TaskTextView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class TaskTagBackfillJob {
+
+    private static final String FINGERPRINT_KEY = "task-tags.dictionary-fingerprint";
+
+    private final TaskRepository taskRepository;
+    private final AppSettingRepository settingRepository;
+    private final TaskTagClassifier tagClassifier;
+    private final TaskTagProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        String fingerprint = tagClassifier.getFingerprint();
+        String storedFingerprint = settingRepository.findById(FINGERPRINT_KEY).map(AppSetting::getValue).orElse(null);
+        boolean dictionaryChanged = !fingerprint.equals(storedFingerprint);
+        if (properties.isReclassifyOnStartup() || dictionaryChanged) {
+            transactionTemplate.executeWithoutResult(status -> taskRepository.clearTagMasks());
+        }
+
+        int batchSize = Math.max(1, properties.getBackfillBatchSize());
+        long afterId = 0L;
+        while (true) {
+            List<TaskTextView> batch = taskRepository.findUnclassifiedTexts(afterId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            Map<Long, List<Long>> idsByMask = new HashMap<>();
+            for (TaskTextView task : batch) {
+                long mask = tagClassifier.classify(task.getTitle(), task.getDescription());
+                idsByMask.computeIfAbsent(mask, m -> new ArrayList<>()).add(task.getId());
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    idsByMask.forEach((mask, ids) -> taskRepository.updateTagMask(ids, mask)));
+
+            afterId = batch.get(batch.size() - 1).getId();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (dictionaryChanged) {
+            settingRepository.save(AppSetting.builder().key(FINGERPRINT_KEY).value(fingerprint).build());
+        }
+    }
+}
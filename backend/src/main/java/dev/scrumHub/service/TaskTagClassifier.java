@@ -0,0 +1,164 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.config.TaskTagProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class TaskTagClassifier {
+
+    private static final int MAX_TAGS = Long.SIZE - 1;
+
+    private final String[] labels;
+    private final Node root;
+    private final long allTagsMask;
+    private final String fingerprint;
+    private final Map<Long, List<String>> decodedMasks = new ConcurrentHashMap<>();
+
+    public TaskTagClassifier(TaskTagProperties properties) {
+        Map<String, List<String>> keywords = properties.getKeywords();
+        if (keywords.size() > MAX_TAGS) {
+            throw new IllegalStateException("At most " + MAX_TAGS + " task tags can be configured");
+        }
+
+        this.labels = keywords.keySet().toArray(new String[0]);
+        this.root = new Node();
+        this.allTagsMask = labels.length == 0 ? 0L : (1L << labels.length) - 1;
+
+        this.fingerprint = fingerprintOf(keywords);
+
+        int bit = 0;
+        for (List<String> words : keywords.values()) {
+            for (String word : words) {
+                if (word != null && !word.isEmpty()) {
+                    insert(word.toLowerCase(), 1L << bit);
+                }
+            }
+            bit++;
+        }
+        buildFailureLinks();
+    }
+
+    public long classify(String title, String description) {
+        if (allTagsMask == 0L) {
+            return 0L;
+        }
+
+        State scan = new State(root, 0L);
+        if (title != null) {
+            scan(title, scan);
+        }
+        scan(" ", scan);
+        if (description != null) {
+            scan(description, scan);
+        }
+        return scan.mask;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public List<String> decode(long mask) {
+        return decodedMasks.computeIfAbsent(mask, this::labelsOf);
+    }
+
+    private List<String> labelsOf(long mask) {
+        List<String> result = new ArrayList<>();
+        for (int bit = 0; bit < labels.length; bit++) {
+            if ((mask & (1L << bit)) != 0) {
+                result.add(labels[bit]);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static String fingerprintOf(Map<String, List<String>> keywords) {
+        StringBuilder dictionary = new StringBuilder();
+        for (Map.Entry<String, List<String>> tag : keywords.entrySet()) {
+            dictionary.append(tag.getKey()).append('=');
+            for (String word : tag.getValue()) {
+                if (word != null && !word.isEmpty()) {
+                    dictionary.append(word.toLowerCase()).append(',');
+                }
+            }
+            dictionary.append('\n');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(dictionary.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private void scan(String text, State scan) {
+        Node state = scan.node;
+        long mask = scan.mask;
+        for (int i = 0; i < text.length() && mask != allTagsMask; i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            while (state != root && !state.next.containsKey(c)) {
+                state = state.fail;
+            }
+            state = state.next.getOrDefault(c, root);
+            mask |= state.output;
+        }
+        scan.node = state;
+        scan.mask = mask;
+    }
+
+    private void insert(String word, long bit) {
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.next.computeIfAbsent(word.charAt(i), c -> new Node());
+        }
+        node.output |= bit;
+    }
+
+    private void buildFailureLinks() {
+        Deque<Node> queue = new ArrayDeque<>();
+        for (Node child : root.next.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.next.entrySet()) {
+                char c = entry.getKey();
+                Node child = entry.getValue();
+
+                Node fail = node.fail;
+                while (fail != root && !fail.next.containsKey(c)) {
+                    fail = fail.fail;
+                }
+                Node target = fail.next.get(c);
+                child.fail = target != null && target != child ? target : root;
+                child.output |= child.fail.output;
+                queue.add(child);
+            }
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> next = new HashMap<>();
+        private Node fail;
+        private long output;
+    }
+
+    private static final class State {
+        private Node node;
+        private long mask;
+
+        private State(Node node, long mask) {
+            this.node = node;
+            this.mask = mask;
+        }
+    }
+}
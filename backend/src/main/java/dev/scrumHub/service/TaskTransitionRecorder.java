@@ -0,0 +1,158 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.model.Task;
+import dev.scrumHub.model.Task.TaskStatus;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class TaskTransitionRecorder {
+
+    private static final String INSERT_SQL = "INSERT INTO task_transitions " +
+            "(task_id, project_id, sprint_id, from_status, to_status, actor_id, transitioned_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingTransition> queue;
+    private final int batchSize;
+    private final AtomicLong droppedOnOverflow = new AtomicLong();
+
+    public TaskTransitionRecorder(JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${app.task-transitions.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${app.task-transitions.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    public void record(Task task, TaskStatus fromStatus, Long actorId) {
+        if (task.getStatus() == null || fromStatus == task.getStatus()) {
+            return;
+        }
+        submit(transitionOf(task, fromStatus, task.getStatus(), actorId));
+    }
+
+    public void recordDeletion(Task task, Long actorId) {
+        if (task.getStatus() == null) {
+            return;
+        }
+        submit(transitionOf(task, task.getStatus(), null, actorId));
+    }
+
+    private PendingTransition transitionOf(Task task, TaskStatus fromStatus, TaskStatus toStatus, Long actorId) {
+        return new PendingTransition(
+                task.getId(),
+                task.getProject().getId(),
+                task.getSprint() != null ? task.getSprint().getId() : null,
+                fromStatus,
+                toStatus,
+                actorId,
+                LocalDateTime.now());
+    }
+
+    private void submit(PendingTransition transition) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(transition);
+                }
+            });
+        } else {
+            enqueue(transition);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.task-transitions.flush-millis:1000}")
+    public void flushScheduled() {
+        flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public synchronized int flush() {
+        long dropped = droppedOnOverflow.getAndSet(0);
+        if (dropped > 0) {
+            System.err.println("Warning: Dropped " + dropped + " task transition(s) because the queue was full");
+        }
+        int written = 0;
+        List<PendingTransition> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                write(batch);
+                written += batch.size();
+            } catch (DataAccessException e) {
+                System.err.println("Warning: Failed to flush " + batch.size() + " task transition(s), retrying: " + e.getMessage());
+                batch.forEach(this::enqueue);
+                break;
+            }
+            batch.clear();
+        }
+        return written;
+    }
+
+    private void enqueue(PendingTransition transition) {
+        if (!queue.offer(transition)) {
+            droppedOnOverflow.incrementAndGet();
+        }
+    }
+
+    private void write(List<PendingTransition> batch) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind));
+    }
+
+    private void bind(PreparedStatement statement, PendingTransition transition) throws SQLException {
+        statement.setLong(1, transition.taskId());
+        statement.setLong(2, transition.projectId());
+        setNullableLong(statement, 3, transition.sprintId());
+        setNullableStatus(statement, 4, transition.fromStatus());
+        setNullableStatus(statement, 5, transition.toStatus());
+        setNullableLong(statement, 6, transition.actorId());
+        statement.setTimestamp(7, Timestamp.valueOf(transition.transitionedAt()));
+    }
+
+    private static void setNullableStatus(PreparedStatement statement, int index, TaskStatus value) throws SQLException {
+        if (value != null) {
+            statement.setShort(index, (short) value.ordinal());
+        } else {
+            statement.setNull(index, Types.SMALLINT);
+        }
+    }
+
+    private static void setNullableLong(PreparedStatement statement, int index, Long value) throws SQLException {
+        if (value != null) {
+            statement.setLong(index, value);
+        } else {
+            statement.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private record PendingTransition(Long taskId, Long projectId, Long sprintId, TaskStatus fromStatus,
+                                     TaskStatus toStatus, Long actorId, LocalDateTime transitionedAt) {
+    }
+}
@@ -1,5 +1,7 @@
 package dev.scrumHub.service;
 
+import dev.scrumHub.dto.TaskFilterDto;
+import dev.scrumHub.dto.TaskPageDto;
 import dev.scrumHub.dto.TaskResponseDto;
 import dev.scrumHub.dto.ProjectResponseDto;
 import dev.scrumHub.model.*;
@@ -8,6 +10,8 @@ import dev.scrumHub.repository.TaskRepository;
 import dev.scrumHub.repository.ProjectRepository;
 import dev.scrumHub.repository.UserRepository;
 import dev.scrumHub.repository.UserProjectRepository;
+import dev.scrumHub.repository.projection.StatusCountView;
+import dev.scrumHub.repository.projection.TaskView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,59 +28,51 @@ public class TesterService {
     private final UserRepository userRepository;
     private final UserProjectRepository userProjectRepository;
     private final TaskService taskService;
+    private final BoardGroupingEngine groupingEngine;
+    private final StatsCounterService statsCounterService;
+    private final TaskTransitionRecorder transitionRecorder;
 
     public Map<String, Object> getTesterStats(Long testerId) {
-        List<Task> allProjectTasks = getTasksForTesterProjects(testerId);
+        long[] statusCounts = new long[TaskStatus.values().length];
+        for (StatusCountView count : countStatuses(userProjectRepository.findProjectIdsByUserId(testerId))) {
+            statusCounts[count.getStatus().ordinal()] += count.getCount();
+        }
 
-        List<Task> testingTasks = allProjectTasks.stream()
-                .filter(task -> isTestingRelatedStatus(task.getStatus()))
-                .collect(Collectors.toList());
+        long testingTasks = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            if (isTestingRelatedStatus(status)) {
+                testingTasks += statusCounts[status.ordinal()];
+            }
+        }
 
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalTasks", testingTasks.size());
-        stats.put("readyForTesting", testingTasks.stream().filter(t -> t.getStatus() == TaskStatus.READY_FOR_TESTING).count());
-        stats.put("inTesting", testingTasks.stream().filter(t -> t.getStatus() == TaskStatus.IN_TESTING).count());
-        stats.put("testPassed", testingTasks.stream().filter(t -> t.getStatus() == TaskStatus.TEST_PASSED).count());
-        stats.put("bugFound", testingTasks.stream().filter(t -> t.getStatus() == TaskStatus.BUG_FOUND).count());
+        stats.put("totalTasks", (int) testingTasks);
+        stats.put("readyForTesting", statusCounts[TaskStatus.READY_FOR_TESTING.ordinal()]);
+        stats.put("inTesting", statusCounts[TaskStatus.IN_TESTING.ordinal()]);
+        stats.put("testPassed", statusCounts[TaskStatus.TEST_PASSED.ordinal()]);
+        stats.put("bugFound", statusCounts[TaskStatus.BUG_FOUND.ordinal()]);
 
-        stats.put("totalBugs", testingTasks.stream().filter(t -> t.getStatus() == TaskStatus.BUG_FOUND).count());
+        stats.put("totalBugs", statusCounts[TaskStatus.BUG_FOUND.ordinal()]);
         stats.put("resolvedBugs", 0);
 
         return stats;
     }
 
-    public List<TaskResponseDto> getTestingTasks(Long testerId, String status, Long projectId, Long sprintId) {
-        List<Task> tasks;
-
-        if (sprintId != null) {
-            tasks = taskRepository.findBySprintIdOrderByPriorityDesc(sprintId);
-        } else if (projectId != null) {
-            tasks = taskRepository.findByProjectIdOrderByCreatedAtDesc(projectId);
-        } else {
-            tasks = getTasksForTesterProjects(testerId);
-        }
-
-        if (status != null && !status.trim().isEmpty()) {
-            TaskStatus taskStatus = TaskStatus.valueOf(status.toUpperCase());
-            tasks = tasks.stream()
-                    .filter(task -> task.getStatus() == taskStatus)
-                    .collect(Collectors.toList());
-        }
+    public List<TaskResponseDto> getTestingTasks(Long testerId, TaskFilterDto filter) {
+        return taskService.findTasks(scopeToTesterProjects(testerId, filter));
+    }
 
-        return tasks.stream()
-                .map(taskService::convertToDto)
-                .collect(Collectors.toList());
+    public TaskPageDto getTestingTaskPage(Long testerId, TaskFilterDto filter) {
+        return taskService.getTaskPage(scopeToTesterProjects(testerId, filter));
     }
 
     public List<TaskResponseDto> getTasksReadyForTesting(Long testerId, Long projectId) {
-        List<Task> tasks;
+        List<TaskView> tasks;
 
         if (projectId != null) {
-            tasks = taskRepository.findByProjectIdAndStatus(projectId, TaskStatus.READY_FOR_TESTING);
+            tasks = taskRepository.findViewsByProjectIdAndStatus(projectId, TaskStatus.READY_FOR_TESTING);
         } else {
-            tasks = getTasksForTesterProjects(testerId).stream()
-                    .filter(task -> task.getStatus() == TaskStatus.READY_FOR_TESTING)
-                    .collect(Collectors.toList());
+            tasks = getTasksForTesterProjects(testerId, TaskStatus.READY_FOR_TESTING);
         }
 
         return tasks.stream()
@@ -85,14 +81,12 @@ public class TesterService {
     }
 
     public List<TaskResponseDto> getTasksInTesting(Long testerId, Long projectId) {
-        List<Task> tasks;
+        List<TaskView> tasks;
 
         if (projectId != null) {
-            tasks = taskRepository.findByProjectIdAndStatus(projectId, TaskStatus.IN_TESTING);
+            tasks = taskRepository.findViewsByProjectIdAndStatus(projectId, TaskStatus.IN_TESTING);
         } else {
-            tasks = getTasksForTesterProjects(testerId).stream()
-                    .filter(task -> task.getStatus() == TaskStatus.IN_TESTING)
-                    .collect(Collectors.toList());
+            tasks = getTasksForTesterProjects(testerId, TaskStatus.IN_TESTING);
         }
 
         return tasks.stream()
@@ -117,6 +111,9 @@ public class TesterService {
 
         task.setStatus(TaskStatus.IN_TESTING);
         Task savedTask = taskRepository.save(task);
+        statsCounterService.taskStatusChanged(savedTask, TaskStatus.READY_FOR_TESTING);
+        transitionRecorder.record(savedTask, TaskStatus.READY_FOR_TESTING, testerId);
+        taskService.publishTaskChange(savedTask);
 
         return taskService.convertToDto(savedTask);
     }
@@ -132,6 +129,9 @@ public class TesterService {
 
         task.setStatus(TaskStatus.TEST_PASSED);
         Task savedTask = taskRepository.save(task);
+        statsCounterService.taskStatusChanged(savedTask, TaskStatus.IN_TESTING);
+        transitionRecorder.record(savedTask, TaskStatus.IN_TESTING, testerId);
+        taskService.publishTaskChange(savedTask);
 
 
         return taskService.convertToDto(savedTask);
@@ -148,13 +148,26 @@ public class TesterService {
 
         task.setStatus(TaskStatus.BUG_FOUND);
         Task savedTask = taskRepository.save(task);
+        statsCounterService.taskStatusChanged(savedTask, TaskStatus.IN_TESTING);
+        transitionRecorder.record(savedTask, TaskStatus.IN_TESTING, testerId);
+        taskService.publishTaskChange(savedTask);
 
 
         return taskService.convertToDto(savedTask);
     }
 
     public List<Map<String, Object>> getTesterProjects(Long testerId) {
-        List<UserProject> userProjects = userProjectRepository.findByUserId(testerId);
+        List<UserProject> userProjects = userProjectRepository.findWithProjectByUserId(testerId);
+
+        Map<Long, Long> testingTasksByProject = new HashMap<>();
+        List<Long> projectIds = userProjects.stream()
+                .map(userProject -> userProject.getId().getProjectId())
+                .collect(Collectors.toList());
+        for (StatusCountView count : countStatuses(projectIds)) {
+            if (isTestingRelatedStatus(count.getStatus())) {
+                testingTasksByProject.merge(count.getProjectId(), count.getCount(), Long::sum);
+            }
+        }
 
         return userProjects.stream()
                 .map(up -> {
@@ -166,11 +179,7 @@ public class TesterService {
                     projectInfo.put("status", project.getStatus());
                     projectInfo.put("roleInProject", up.getRoleInProject());
 
-                    List<Task> projectTasks = taskRepository.findByProjectIdOrderByCreatedAtDesc(project.getId());
-                    long testingTasks = projectTasks.stream()
-                            .filter(task -> isTestingRelatedStatus(task.getStatus()))
-                            .count();
-                    projectInfo.put("testingTasks", testingTasks);
+                    projectInfo.put("testingTasks", testingTasksByProject.getOrDefault(project.getId(), 0L));
 
                     return projectInfo;
                 })
@@ -178,42 +187,55 @@ public class TesterService {
     }
 
     public Map<String, Object> getTesterBoard(Long testerId, Long projectId, Long sprintId) {
-        List<Task> tasks;
+        List<TaskView> tasks;
 
         if (sprintId != null) {
-            tasks = taskRepository.findBySprintIdOrderByPriorityDesc(sprintId);
+            tasks = taskRepository.findViewsBySprintId(sprintId);
         } else if (projectId != null) {
-            tasks = taskRepository.findByProjectIdOrderByCreatedAtDesc(projectId);
+            tasks = taskRepository.findViewsByProjectId(projectId);
         } else {
-            tasks = getTasksForTesterProjects(testerId);
+            tasks = getTasksForTesterProjects(testerId, null);
         }
 
-        Map<String, Object> boardData = new HashMap<>();
+        BoardGroupingEngine.Grouping grouping = groupingEngine.group(tasks, BoardGroupingEngine.Dimension.STATUS);
 
-        Map<String, List<TaskResponseDto>> tasksByStatus = groupTasksByStatus(tasks);
-        boardData.put("tasksByStatus", tasksByStatus);
+        Map<String, Object> boardData = new HashMap<>();
+        boardData.put("tasksByStatus", grouping.columns());
 
         Map<String, Integer> stats = new HashMap<>();
-        stats.put("totalTasks", tasks.size());
-        stats.put("readyForTesting", (int) tasks.stream().filter(t -> t.getStatus() == TaskStatus.READY_FOR_TESTING).count());
-        stats.put("inTesting", (int) tasks.stream().filter(t -> t.getStatus() == TaskStatus.IN_TESTING).count());
-        stats.put("testPassed", (int) tasks.stream().filter(t -> t.getStatus() == TaskStatus.TEST_PASSED).count());
-        stats.put("bugFound", (int) tasks.stream().filter(t -> t.getStatus() == TaskStatus.BUG_FOUND).count());
+        stats.put("totalTasks", grouping.getTotalTasks());
+        stats.put("readyForTesting", grouping.count(TaskStatus.READY_FOR_TESTING));
+        stats.put("inTesting", grouping.count(TaskStatus.IN_TESTING));
+        stats.put("testPassed", grouping.count(TaskStatus.TEST_PASSED));
+        stats.put("bugFound", grouping.count(TaskStatus.BUG_FOUND));
         boardData.put("stats", stats);
 
         return boardData;
     }
 
-    private List<Task> getTasksForTesterProjects(Long testerId) {
-        List<UserProject> userProjects = userProjectRepository.findByUserId(testerId);
-        List<Task> allTasks = new ArrayList<>();
+    private List<TaskView> getTasksForTesterProjects(Long testerId, TaskStatus status) {
+        List<Long> projectIds = userProjectRepository.findProjectIdsByUserId(testerId);
+        if (projectIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return status == null
+                ? taskRepository.findViewsByProjectIds(projectIds)
+                : taskRepository.findViewsByProjectIdsAndStatus(projectIds, status);
+    }
 
-        for (UserProject userProject : userProjects) {
-            List<Task> projectTasks = taskRepository.findByProjectIdOrderByCreatedAtDesc(userProject.getProject().getId());
-            allTasks.addAll(projectTasks);
+    private List<StatusCountView> countStatuses(List<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return new ArrayList<>();
         }
+        return taskRepository.countStatusesByProjectIds(projectIds);
+    }
 
-        return allTasks;
+    private TaskFilterDto scopeToTesterProjects(Long testerId, TaskFilterDto filter) {
+        if (filter.getProjectId() == null && filter.getSprintId() == null) {
+            filter.setProjectIds(userProjectRepository.findProjectIdsByUserId(testerId));
+        }
+        return filter;
     }
 
     private boolean isTestingRelatedStatus(TaskStatus status) {
@@ -222,24 +244,4 @@ public class TesterService {
                status == TaskStatus.BUG_FOUND ||
                status == TaskStatus.TEST_PASSED;
     }
-
-    private Map<String, List<TaskResponseDto>> groupTasksByStatus(List<Task> tasks) {
-        Map<String, List<TaskResponseDto>> grouped = new LinkedHashMap<>();
-
-        grouped.put("TO_DO", new ArrayList<>());
-        grouped.put("IN_PROGRESS", new ArrayList<>());
-        grouped.put("READY_FOR_TESTING", new ArrayList<>());
-        grouped.put("IN_TESTING", new ArrayList<>());
-        grouped.put("BUG_FOUND", new ArrayList<>());
-        grouped.put("TEST_PASSED", new ArrayList<>());
-        grouped.put("DONE", new ArrayList<>());
-
-        for (Task task : tasks) {
-            String status = task.getStatus().toString();
-            TaskResponseDto taskDto = taskService.convertToDto(task);
-            grouped.get(status).add(taskDto);
-        }
-
-        return grouped;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package dev.scrumHub.service;
+
+import dev.scrumHub.dto.SprintVelocityDto;
+import dev.scrumHub.dto.VelocityDto;
+import dev.scrumHub.model.Sprint;
+import dev.scrumHub.model.SprintVelocity;
+import dev.scrumHub.model.Task.TaskStatus;
+import dev.scrumHub.repository.ProjectRepository;
+import dev.scrumHub.repository.SprintRepository;
+import dev.scrumHub.repository.SprintVelocityRepository;
+import dev.scrumHub.repository.TaskRepository;
+import dev.scrumHub.repository.projection.SprintPointsView;
+import dev.scrumHub.repository.projection.SprintWorkView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+@Service
+public class VelocityService {
+
+    private static final int MAX_WINDOW = 26;
+
+    private final SprintVelocityRepository velocityRepository;
+    private final SprintRepository sprintRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultWindow;
+
+    public VelocityService(SprintVelocityRepository velocityRepository,
+                           SprintRepository sprintRepository,
+                           ProjectRepository projectRepository,
+                           TaskRepository taskRepository,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${app.velocity.window:3}") int defaultWindow) {
+        this.velocityRepository = velocityRepository;
+        this.sprintRepository = sprintRepository;
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.defaultWindow = Math.max(1, Math.min(defaultWindow, MAX_WINDOW));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCompletedSprints() {
+        List<Long> sprintIds = velocityRepository.findCompletedSprintIdsWithoutVelocity();
+        if (!sprintIds.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> recordCompletions(sprintIds));
+        }
+    }
+
+    @Transactional
+    public void sprintCompleted(Long sprintId) {
+        recordCompletions(List.of(sprintId));
+    }
+
+    @Transactional
+    public void removeSprint(Long sprintId) {
+        if (velocityRepository.existsById(sprintId)) {
+            velocityRepository.deleteById(sprintId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public VelocityDto getVelocity(Long projectId, Integer window) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found with id: " + projectId);
+        }
+        int size = window != null ? window : defaultWindow;
+        if (size < 1 || size > MAX_WINDOW) {
+            throw new RuntimeException("window must be between 1 and " + MAX_WINDOW);
+        }
+
+        List<SprintVelocity> velocities = velocityRepository.findRecentByProjectId(projectId, PageRequest.of(0, size));
+        Map<Long, String> sprintNames = sprintRepository.findAllById(
+                        velocities.stream().map(SprintVelocity::getSprintId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Sprint::getId, Sprint::getName));
+
+        List<SprintVelocityDto> sprints = velocities.stream()
+                .map(velocity -> SprintVelocityDto.builder()
+                        .sprintId(velocity.getSprintId())
+                        .sprintName(sprintNames.get(velocity.getSprintId()))
+                        .completedAt(velocity.getCompletedAt())
+                        .committedTasks(velocity.getCommittedTasks())
+                        .completedTasks(velocity.getCompletedTasks())
+                        .committedHours(velocity.getCommittedHours())
+                        .completedHours(velocity.getCompletedHours())
+                        .completedStoryPoints(velocity.getCompletedStoryPoints())
+                        .build())
+                .collect(Collectors.toList());
+
+        return VelocityDto.builder()
+                .projectId(projectId)
+                .window(size)
+                .sampleSize(velocities.size())
+                .averageCompletedTasks(average(velocities, SprintVelocity::getCompletedTasks))
+                .stdDevCompletedTasks(stdDev(velocities, SprintVelocity::getCompletedTasks))
+                .averageCompletedHours(average(velocities, SprintVelocity::getCompletedHours))
+                .stdDevCompletedHours(stdDev(velocities, SprintVelocity::getCompletedHours))
+                .averageStoryPoints(average(velocities, SprintVelocity::getCompletedStoryPoints))
+                .stdDevStoryPoints(stdDev(velocities, SprintVelocity::getCompletedStoryPoints))
+                .sprints(sprints)
+                .build();
+    }
+
+    private void recordCompletions(Collection<Long> sprintIds) {
+        Map<Long, SprintWorkView> work = new HashMap<>();
+        for (SprintWorkView row : taskRepository.sumWorkBySprintIds(sprintIds, TaskStatus.DONE)) {
+            work.put(row.getSprintId(), row);
+        }
+        Map<Long, Long> storyPoints = new HashMap<>();
+        for (SprintPointsView row : taskRepository.sumStoryPointsBySprintIds(sprintIds, TaskStatus.DONE)) {
+            storyPoints.put(row.getSprintId(), row.getStoryPoints());
+        }
+
+        List<SprintVelocity> velocities = new ArrayList<>();
+        for (Sprint sprint : sprintRepository.findAllById(sprintIds)) {
+            SprintWorkView row = work.get(sprint.getId());
+            velocities.add(SprintVelocity.builder()
+                    .sprintId(sprint.getId())
+                    .projectId(sprint.getProject().getId())
+                    .completedAt(sprint.getUpdatedAt() != null ? sprint.getUpdatedAt() : LocalDateTime.now())
+                    .committedTasks(row != null ? row.getTotalTasks().intValue() : 0)
+                    .completedTasks(row != null ? row.getCompletedTasks().intValue() : 0)
+                    .committedHours(row != null ? row.getTotalHours().intValue() : 0)
+                    .completedHours(row != null ? row.getCompletedHours().intValue() : 0)
+                    .completedStoryPoints(storyPoints.getOrDefault(sprint.getId(), 0L).intValue())
+                    .build());
+        }
+        velocityRepository.saveAll(velocities);
+    }
+
+    private static Double average(List<SprintVelocity> velocities, ToIntFunction<SprintVelocity> metric) {
+        if (velocities.isEmpty()) {
+            return null;
+        }
+        return round(velocities.stream().mapToInt(metric).average().orElse(0.0));
+    }
+
+    private static Double stdDev(List<SprintVelocity> velocities, ToIntFunction<SprintVelocity> metric) {
+        if (velocities.isEmpty()) {
+            return null;
+        }
+        if (velocities.size() == 1) {
+            return 0.0;
+        }
+        double mean = velocities.stream().mapToInt(metric).average().orElse(0.0);
+        double sumOfSquares = velocities.stream()
+                .mapToDouble(velocity -> Math.pow(metric.applyAsInt(velocity) - mean, 2))
+                .sum();
+        return round(Math.sqrt(sumOfSquares / (velocities.size() - 1)));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,98 @@
+package dev.scrumHub.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BacklogRankTest {
+
+    @Test
+    void betweenWithoutBoundsReturnsMiddleKey() {
+        assertEquals("i", BacklogRank.between(null, null));
+    }
+
+    @Test
+    void betweenWithOnlyUpperBoundSortsBeforeIt() {
+        String rank = BacklogRank.between(null, "i");
+        assertTrue(rank.compareTo("i") < 0);
+    }
+
+    @Test
+    void betweenWithOnlyLowerBoundSortsAfterIt() {
+        String rank = BacklogRank.between("i", null);
+        assertTrue(rank.compareTo("i") > 0);
+    }
+
+    @Test
+    void betweenAdjacentKeysExtendsTheLowerKey() {
+        String rank = BacklogRank.between("a", "b");
+        assertTrue("a".compareTo(rank) < 0 && rank.compareTo("b") < 0);
+        assertEquals(2, rank.length());
+    }
+
+    @Test
+    void betweenReturnsNullWhenNoKeyFitsBetweenEqualValues() {
+        assertNull(BacklogRank.between("i", "i000"));
+    }
+
+    @Test
+    void betweenRejectsOutOfOrderBounds() {
+        assertThrows(IllegalArgumentException.class, () -> BacklogRank.between("b", "a"));
+        assertThrows(IllegalArgumentException.class, () -> BacklogRank.between("a", "a"));
+    }
+
+    @Test
+    void repeatedBisectionGrowsKeysByAtMostOneCharacter() {
+        String lower = "a";
+        for (int i = 0; i < 200; i++) {
+            String rank = BacklogRank.between(lower, "b");
+            assertNotNull(rank);
+            assertTrue(lower.compareTo(rank) < 0 && rank.compareTo("b") < 0);
+            assertTrue(rank.length() <= lower.length() + 1);
+            lower = rank;
+        }
+    }
+
+    @Test
+    void evenlySpacedIsStrictlyIncreasingWithoutTrailingZeros() {
+        for (int count : new int[]{1, 2, 7, 100, 5000}) {
+            List<String> ranks = BacklogRank.evenlySpaced(count);
+            assertEquals(count, ranks.size());
+            for (int i = 0; i < ranks.size(); i++) {
+                assertFalse(ranks.get(i).endsWith("0"), ranks.get(i));
+                if (i > 0) {
+                    assertTrue(ranks.get(i - 1).compareTo(ranks.get(i)) < 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    void appendsStayShortAndIncreasing() {
+        String max = BacklogRank.evenlySpaced(10).get(9);
+        for (int i = 0; i < 500; i++) {
+            String rank = BacklogRank.after(max);
+            assertNotNull(rank);
+            assertTrue(rank.compareTo(max) > 0);
+            assertFalse(rank.endsWith("0"), rank);
+            assertTrue(rank.length() <= 4, rank);
+            max = rank;
+        }
+    }
+
+    @Test
+    void appendsStopAtTheWidthCap() {
+        String max = null;
+        int appended = 0;
+        String rank;
+        while ((rank = BacklogRank.after(max)) != null) {
+            assertTrue(max == null || rank.compareTo(max) > 0);
+            assertTrue(rank.length() <= BacklogRank.MAX_LENGTH);
+            max = rank;
+            appended++;
+        }
+        assertTrue(appended > 500);
+    }
+}
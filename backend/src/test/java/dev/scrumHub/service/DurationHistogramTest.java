@@ -0,0 +1,55 @@
+package dev.scrumHub.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurationHistogramTest {
+
+    @Test
+    void smallValuesHaveExactBuckets() {
+        for (int value = 0; value < 8; value++) {
+            assertEquals(value, DurationHistogram.bucketIndex(value));
+            assertEquals(value, DurationHistogram.bucketUpperBound(value));
+        }
+    }
+
+    @Test
+    void everyValueFallsInsideItsBucket() {
+        for (long value = 0; value < 100_000; value++) {
+            int index = DurationHistogram.bucketIndex(value);
+            assertTrue(DurationHistogram.bucketUpperBound(index) >= value);
+            if (index > 0) {
+                assertTrue(DurationHistogram.bucketUpperBound(index - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    void upperBoundMapsBackToItsOwnBucket() {
+        for (int index = 0; index < 400; index++) {
+            assertEquals(index, DurationHistogram.bucketIndex(DurationHistogram.bucketUpperBound(index)));
+        }
+    }
+
+    @Test
+    void bucketWidthStaysWithinRelativeError() {
+        for (long value = 8; value < 10_000_000; value = value * 3 / 2 + 1) {
+            long upperBound = DurationHistogram.bucketUpperBound(DurationHistogram.bucketIndex(value));
+            assertTrue(upperBound - value <= value / 8, value + " -> " + upperBound);
+        }
+    }
+
+    @Test
+    void encodeDecodeRoundTripsCounts() {
+        DurationHistogram histogram = new DurationHistogram();
+        histogram.record(5);
+        histogram.record(500);
+        histogram.record(500);
+
+        DurationHistogram decoded = DurationHistogram.decode(histogram.encode());
+        assertEquals(3, decoded.getTotalCount());
+        assertEquals(histogram.encode(), decoded.encode());
+        assertEquals(5, decoded.percentile(30));
+    }
+}
@@ -232,15 +232,25 @@ const ProductBacklog = () => {
 
         try {
             const token = localStorage.getItem('token');
-            const itemIdsInOrder = reorderedItems.map(item => item.id);
+            const newIndex = reorderedItems.findIndex(item => item.id === draggedItem.id);
+            const previousItem = reorderedItems[newIndex - 1];
+            const nextItem = reorderedItems[newIndex + 1];
 
-            const response = await fetch(`http://localhost:8080/api/product-owner/projects/${selectedProject}/backlog/reorder`, {
+            if (!previousItem && !nextItem) {
+                return;
+            }
+
+            const response = await fetch(`http://localhost:8080/api/product-owner/projects/${selectedProject}/backlog/move`, {
                 method: 'PUT',
                 headers: {
                     'Content-Type': 'application/json',
                     'Authorization': `Bearer ${token}`
                 },
-                body: JSON.stringify({ itemIdsInOrder })
+                body: JSON.stringify({
+                    itemId: draggedItem.id,
+                    beforeId: previousItem ? previousItem.id : null,
+                    afterId: previousItem ? null : nextItem.id
+                })
             });
 
             if (!response.ok) {
@@ -84,56 +84,21 @@ const ProductOwnerDashboard = () => {
 		try {
 			const token = localStorage.getItem("token");
 
-			const [
-				backlogStats,
-				epicStats,
-				releaseStats,
-				recentItems,
-				recentEpics
-			] = await Promise.all([
-				fetch(
-					`http://localhost:8080/api/product-owner/projects/${selectedProject}/backlog/statistics`,
-					{
-						headers: { Authorization: `Bearer ${token}` }
-					}
-				).then(res => (res.ok ? res.json() : {})),
-
-				fetch(
-					`http://localhost:8080/api/product-owner/projects/${selectedProject}/epics/statistics`,
-					{
-						headers: { Authorization: `Bearer ${token}` }
-					}
-				).then(res => (res.ok ? res.json() : {})),
-
-				fetch(
-					`http://localhost:8080/api/product-owner/projects/${selectedProject}/releases/statistics`,
-					{
-						headers: { Authorization: `Bearer ${token}` }
-					}
-				).then(res => (res.ok ? res.json() : {})),
-
-				fetch(
-					`http://localhost:8080/api/product-owner/projects/${selectedProject}/backlog/ready`,
-					{
-						headers: { Authorization: `Bearer ${token}` }
-					}
-				).then(res => (res.ok ? res.json() : [])),
-
-				fetch(
-					`http://localhost:8080/api/product-owner/projects/${selectedProject}/epics/active`,
-					{
-						headers: { Authorization: `Bearer ${token}` }
-					}
-				).then(res => (res.ok ? res.json() : []))
-			]);
+			const response = await fetch(
+				`http://localhost:8080/api/product-owner/projects/${selectedProject}/dashboard`,
+				{
+					headers: { Authorization: `Bearer ${token}` }
+				}
+			);
+			const dashboard = response.ok ? await response.json() : {};
 
 			setDashboardData({
-				backlogStats,
-				epicStats,
-				releaseStats,
-				recentItems,
-				recentEpics,
-				upcomingReleases: []
+				backlogStats: dashboard.backlogStats || {},
+				epicStats: dashboard.epicStats || {},
+				releaseStats: dashboard.releaseStats || {},
+				recentItems: dashboard.recentItems || [],
+				recentEpics: dashboard.recentEpics || [],
+				upcomingReleases: dashboard.upcomingReleases || []
 			});
 		} catch (error) {
 			console.error("Error fetching dashboard data:", error);